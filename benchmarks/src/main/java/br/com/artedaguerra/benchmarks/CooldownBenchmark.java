@@ -0,0 +1,78 @@
+package br.com.artedaguerra.benchmarks;
+
+import br.com.artedaguerra.cooldown.CooldownManager;
+import br.com.artedaguerra.cooldown.CooldownType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verificação e aplicação de cooldowns
+ * LobbyManager.verificarCooldown e aplicarCooldown são privados e delegam
+ * ao CooldownManager (getRestanteNanos e aplicar), medido aqui diretamente
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CooldownBenchmark {
+
+    private static final int JOGADORES = 1024;
+
+    private CooldownManager cooldowns;
+    private UUID[] jogadores;
+    private int cursor;
+
+    @Setup
+    public void preparar() {
+        cooldowns = new CooldownManager();
+        cooldowns.configurar(CooldownType.LOBBY, 3000);
+        cooldowns.configurar(CooldownType.ERA, 3000);
+        cooldowns.configurar(CooldownType.GUI, 500);
+
+        jogadores = new UUID[JOGADORES];
+        for (int i = 0; i < JOGADORES; i++) {
+            jogadores[i] = UUID.randomUUID();
+
+            // Metade dos jogadores já está em cooldown
+            if ((i & 1) == 0) {
+                cooldowns.aplicar(jogadores[i], CooldownType.ERA);
+            }
+        }
+    }
+
+    @Benchmark
+    public long verificarCooldown() {
+        return cooldowns.getRestanteNanos(proximo(), CooldownType.ERA);
+    }
+
+    @Benchmark
+    public void aplicarCooldown() {
+        cooldowns.aplicar(proximo(), CooldownType.LOBBY);
+    }
+
+    @Benchmark
+    public boolean tentarAplicarGui() {
+        return cooldowns.tentarAplicar(proximo(), CooldownType.GUI);
+    }
+
+    private UUID proximo() {
+        cursor = (cursor + 1) & (JOGADORES - 1);
+        return jogadores[cursor];
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.artedaguerra.benchmarks;
+
+import br.com.artedaguerra.ArteDaGuerraCore;
+import br.com.artedaguerra.lobby.LobbyManager;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verificação de acesso às eras
+ * 'verificarAcessoEra' é a consulta à máscara em cache (o caminho do menu,
+ * comandos e scanner); 'recalcularMascara' é o recálculo feito na entrada,
+ * troca de mundo ou mudança de permissões
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EraAccessBenchmark {
+
+    private ArteDaGuerraCore plugin;
+    private LobbyManager lobbyManager;
+    private Player jogador;
+    private int era;
+
+    @Setup
+    public void preparar() {
+        plugin = Stubs.plugin(7);
+        lobbyManager = new LobbyManager(plugin);
+        jogador = Stubs.jogador(UUID.randomUUID());
+        plugin.getEraAccessCache().atualizar(jogador);
+    }
+
+    @Benchmark
+    public boolean verificarAcessoEra() {
+        era = era % 7 + 1;
+        return lobbyManager.verificarAcessoEra(jogador, era);
+    }
+
+    @Benchmark
+    public int recalcularMascara() {
+        return plugin.getEraAccessCache().atualizar(jogador);
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.artedaguerra.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ponto de entrada do benchmarks.jar
+ * Aceita as mesmas opções do JMH (ex.: "Cooldown" para filtrar, -f, -wi, -i)
+ * e sempre liga o profiler de GC, que informa a taxa de alocação (gc.alloc.rate.norm)
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class ExecutarBenchmarks {
+
+    private ExecutarBenchmarks() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        Options opcoes = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(opcoes).run();
+    }
+}
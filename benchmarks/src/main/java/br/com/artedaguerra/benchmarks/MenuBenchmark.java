@@ -0,0 +1,58 @@
+package br.com.artedaguerra.benchmarks;
+
+import br.com.artedaguerra.lobby.LobbyGUI;
+import br.com.artedaguerra.lobby.LobbyManager;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abertura do menu de seleção de eras (LobbyGUI.abrirMenuSelecaoEras)
+ * O inventário vem de um servidor falso, então o número mede o trabalho do
+ * plugin (máscara, modelo em cache, LobbyMenu) mais a chamada ao mock
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuBenchmark {
+
+    private LobbyGUI gui;
+    private Player jogador;
+
+    @Setup
+    public void preparar() {
+        LobbyManager lobbyManager = new LobbyManager(Stubs.plugin(7));
+        gui = new LobbyGUI(lobbyManager);
+        jogador = Stubs.jogador(UUID.randomUUID());
+
+        // Primeira abertura monta os modelos; as medidas são das seguintes
+        gui.abrirMenuSelecaoEras(jogador);
+    }
+
+    @Benchmark
+    public void abrirMenuSelecaoEras() {
+        gui.abrirMenuSelecaoEras(jogador);
+    }
+
+    @Benchmark
+    public void abrirMenuInformacoes() {
+        gui.abrirMenuInformacoes(jogador);
+    }
+}
@@ -0,0 +1,354 @@
+package br.com.artedaguerra.benchmarks;
+
+import br.com.artedaguerra.ArteDaGuerraCore;
+import br.com.artedaguerra.era.EraAccessCache;
+import br.com.artedaguerra.era.EraRegistry;
+import br.com.artedaguerra.metricas.PerformanceMonitor;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Objetos de Bukkit falsos para rodar o código do plugin fora do servidor
+ * Servidor, fábrica de itens, metas, inventários e jogadores são Proxies
+ * simples, e o plugin é uma subclasse escrita à mão cujos getters só devolvem
+ * campos, então nada aqui usa Mockito (que aloca a cada chamada e esconderia
+ * o que o plugin aloca). Chamadas com argumentos a um Proxy ainda alocam o
+ * Object[] dos argumentos, e copiar um ItemMeta cria um novo Proxy: esses
+ * custos continuam aparecendo nas medições de alocação
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class Stubs {
+
+    private static final List<Player> ONLINE = new ArrayList<>();
+    private static final Collection<Player> ONLINE_VISAO = Collections.unmodifiableList(ONLINE);
+
+    private static Server servidor;
+
+    private Stubs() {
+    }
+
+    /**
+     * Instala um servidor falso no Bukkit (uma vez por JVM)
+     */
+    public static synchronized Server instalarServidor() {
+        if (servidor != null) {
+            return servidor;
+        }
+
+        Logger logger = Logger.getLogger("Benchmarks");
+        BukkitScheduler scheduler = proxy(BukkitScheduler.class, (proxy, metodo, argumentos) -> padrao(proxy, metodo, argumentos));
+
+        ItemFactory fabrica = proxy(ItemFactory.class, (proxy, metodo, argumentos) -> {
+            switch (metodo.getName()) {
+                case "getItemMeta":
+                    return itemMeta();
+                case "isApplicable":
+                    return Boolean.TRUE;
+                case "asMetaFor":
+                    return argumentos[0];
+                case "equals":
+                    if (argumentos.length == 2) {
+                        return argumentos[0] == argumentos[1];
+                    }
+                    return padrao(proxy, metodo, argumentos);
+                default:
+                    return padrao(proxy, metodo, argumentos);
+            }
+        });
+
+        Server server = proxy(Server.class, (proxy, metodo, argumentos) -> {
+            switch (metodo.getName()) {
+                case "getLogger":
+                    return logger;
+                case "getItemFactory":
+                    return fabrica;
+                case "getScheduler":
+                    return scheduler;
+                case "getOnlinePlayers":
+                    return ONLINE_VISAO;
+                case "createInventory":
+                    return inventario((InventoryHolder) argumentos[0], argumentos[1] instanceof Integer ? (Integer) argumentos[1] : 27);
+                case "getName":
+                case "getVersion":
+                case "getBukkitVersion":
+                    return "Benchmarks";
+                default:
+                    return padrao(proxy, metodo, argumentos);
+            }
+        });
+
+        Bukkit.setServer(server);
+        servidor = server;
+        return server;
+    }
+
+    /**
+     * Plugin falso com configuração padrão, registro de eras e cache de acesso reais
+     */
+    public static ArteDaGuerraCore plugin(int quantidadeEras) {
+        return new PluginFalso(instalarServidor(), configuracao(quantidadeEras));
+    }
+
+    /**
+     * Jogador falso com todas as permissões
+     */
+    public static Player jogador(UUID playerId) {
+        return jogador(playerId, null, true);
+    }
+
+    /**
+     * Jogador falso em um mundo
+     *
+     * @param permissoes resposta de hasPermission para qualquer permissão
+     */
+    public static Player jogador(UUID playerId, World mundo, boolean permissoes) {
+        Boolean temPermissao = permissoes;
+
+        return proxy(Player.class, (proxy, metodo, argumentos) -> {
+            switch (metodo.getName()) {
+                case "getUniqueId":
+                    return playerId;
+                case "getName":
+                    return "Benchmark";
+                case "getWorld":
+                    return mundo;
+                case "hasPermission":
+                    return temPermissao;
+                default:
+                    return padrao(proxy, metodo, argumentos);
+            }
+        });
+    }
+
+    /**
+     * Define os jogadores devolvidos por Bukkit.getOnlinePlayers()
+     */
+    public static void definirOnline(Collection<? extends Player> jogadores) {
+        ONLINE.clear();
+        ONLINE.addAll(jogadores);
+    }
+
+    /**
+     * Jogador falso que anda em linha reta: a posição X avança um bloco a cada
+     * passo (passo[0]) e volta ao início a cada 8, em Z fixo
+     */
+    public static Player jogadorAndando(UUID playerId, World mundo, int z, int[] passo) {
+        return proxy(Player.class, (proxy, metodo, argumentos) -> {
+            switch (metodo.getName()) {
+                case "getUniqueId":
+                    return playerId;
+                case "getName":
+                    return "Benchmark";
+                case "getWorld":
+                    return mundo;
+                case "hasPermission":
+                    return Boolean.FALSE;
+                case "getLocation":
+                    Location destino = argumentos != null && argumentos.length == 1
+                        ? (Location) argumentos[0]
+                        : new Location(mundo, 0, 0, 0);
+                    destino.setWorld(mundo);
+                    destino.setX(passo[0] % 8 + 0.5);
+                    destino.setY(64);
+                    destino.setZ(z + 0.5);
+                    return destino;
+                default:
+                    return padrao(proxy, metodo, argumentos);
+            }
+        });
+    }
+
+    /**
+     * Mundo falso (só o nome)
+     */
+    public static World mundo(String nome) {
+        return proxy(World.class, (proxy, metodo, argumentos) ->
+            "getName".equals(metodo.getName()) ? nome : padrao(proxy, metodo, argumentos));
+    }
+
+    /**
+     * Cria um Proxy da interface; o handler decide o retorno de cada método
+     */
+    public static <T> T proxy(Class<T> tipo, InvocationHandler handler) {
+        return tipo.cast(Proxy.newProxyInstance(Stubs.class.getClassLoader(), new Class<?>[]{tipo}, handler));
+    }
+
+    /**
+     * Resposta padrão: identidade para equals/hashCode/toString e zero/false/null para o resto
+     */
+    public static Object padrao(Object proxy, Method metodo, Object[] argumentos) {
+        switch (metodo.getName()) {
+            case "equals":
+                return argumentos != null && argumentos.length == 1 && proxy == argumentos[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return metodo.getDeclaringClass().getSimpleName() + "@stub";
+            default:
+                return valorPadrao(metodo.getReturnType());
+        }
+    }
+
+    private static ItemMeta itemMeta() {
+        Map<Object, Object> dados = new HashMap<>();
+
+        PersistentDataContainer container = proxy(PersistentDataContainer.class, (proxy, metodo, argumentos) -> {
+            switch (metodo.getName()) {
+                case "get":
+                    return dados.get(argumentos[0]);
+                case "set":
+                    dados.put(argumentos[0], argumentos[2]);
+                    return null;
+                case "has":
+                    return dados.containsKey(argumentos[0]);
+                case "remove":
+                    dados.remove(argumentos[0]);
+                    return null;
+                case "isEmpty":
+                    return dados.isEmpty();
+                default:
+                    return padrao(proxy, metodo, argumentos);
+            }
+        });
+
+        return itemMeta(container);
+    }
+
+    private static ItemMeta itemMeta(PersistentDataContainer container) {
+        return proxy(ItemMeta.class, (proxy, metodo, argumentos) -> {
+            switch (metodo.getName()) {
+                case "clone":
+                    return itemMeta(container);
+                case "getPersistentDataContainer":
+                    return container;
+                default:
+                    return padrao(proxy, metodo, argumentos);
+            }
+        });
+    }
+
+    private static Inventory inventario(InventoryHolder holder, int tamanho) {
+        return proxy(Inventory.class, (proxy, metodo, argumentos) -> {
+            switch (metodo.getName()) {
+                case "getHolder":
+                    return holder;
+                case "getSize":
+                    return tamanho;
+                default:
+                    return padrao(proxy, metodo, argumentos);
+            }
+        });
+    }
+
+    /**
+     * Configuração com 'quantidade' eras desbloqueadas e sem mundos (não dependem de um servidor real)
+     */
+    private static YamlConfiguration configuracao(int quantidade) {
+        YamlConfiguration config = new YamlConfiguration();
+
+        for (int era = 1; era <= quantidade; era++) {
+            config.set("eras.era_" + era + ".nome", "Era " + era);
+            config.set("eras.era_" + era + ".periodo", "Período " + era);
+            config.set("eras.era_" + era + ".desbloqueada", true);
+        }
+        return config;
+    }
+
+    /**
+     * Plugin criado pelo construtor de testes do JavaPlugin; os getters usados
+     * nos caminhos medidos devolvem campos, sem custo de stub
+     */
+    private static final class PluginFalso extends ArteDaGuerraCore {
+
+        private final YamlConfiguration config;
+        private final EraRegistry registry;
+        private final EraAccessCache cache;
+        private final PerformanceMonitor monitor;
+
+        @SuppressWarnings("deprecation") // JavaPluginLoader(Server) é o único jeito de criar um loader fora do servidor
+        PluginFalso(Server server, YamlConfiguration config) {
+            super(new JavaPluginLoader(server),
+                new PluginDescriptionFile("ArteDaGuerra", "1.0.0-SNAPSHOT", ArteDaGuerraCore.class.getName()),
+                new File(System.getProperty("java.io.tmpdir"), "ArteDaGuerra-benchmarks"),
+                new File("ArteDaGuerra.jar"));
+
+            this.config = config;
+            this.registry = EraRegistry.compilar(config.getConfigurationSection("eras"), getLogger());
+            this.cache = new EraAccessCache(this);
+
+            // Monitor ativo, para que o custo da instrumentação entre nas medições
+            this.monitor = new PerformanceMonitor();
+            monitor.iniciar(this, true, 60);
+
+            setEnabled(true);
+        }
+
+        @Override
+        public void onEnable() {
+            // Nada a iniciar: os sistemas medidos são montados por quem usa o plugin falso
+        }
+
+        @Override
+        public void onDisable() {
+        }
+
+        @Override
+        public YamlConfiguration getConfig() {
+            return config;
+        }
+
+        @Override
+        public EraRegistry getEraRegistry() {
+            return registry;
+        }
+
+        @Override
+        public EraAccessCache getEraAccessCache() {
+            return cache;
+        }
+
+        @Override
+        public PerformanceMonitor getPerformanceMonitor() {
+            return monitor;
+        }
+    }
+
+    private static Object valorPadrao(Class<?> tipo) {
+        if (!tipo.isPrimitive() || tipo == void.class) return null;
+        if (tipo == boolean.class) return Boolean.FALSE;
+        if (tipo == char.class) return '\0';
+        if (tipo == long.class) return 0L;
+        if (tipo == float.class) return 0f;
+        if (tipo == double.class) return 0d;
+        if (tipo == byte.class) return (byte) 0;
+        if (tipo == short.class) return (short) 0;
+        return 0;
+    }
+}
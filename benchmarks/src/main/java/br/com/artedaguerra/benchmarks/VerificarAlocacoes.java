@@ -0,0 +1,310 @@
+package br.com.artedaguerra.benchmarks;
+
+import br.com.artedaguerra.ArteDaGuerraCore;
+import br.com.artedaguerra.lobby.LobbyCommand;
+import br.com.artedaguerra.lobby.LobbyGUI;
+import br.com.artedaguerra.lobby.LobbyListener;
+import br.com.artedaguerra.lobby.LobbyManager;
+import br.com.artedaguerra.lobby.LobbyMenu;
+import br.com.artedaguerra.lobby.MenuTemplateCache;
+import br.com.artedaguerra.lobby.ProximityScanner;
+import br.com.artedaguerra.protecao.ProtectionListener;
+import br.com.artedaguerra.protecao.ProtectionManager;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.damage.DamageSource;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.FoodLevelChangeEvent;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Verificação de orçamento de alocação por evento
+ * Executa cada handler do LobbyListener e do ProtectionListener, os caminhos de menu e comando
+ * e um tick do scanner de proximidade milhares de vezes, mede os bytes alocados pela thread (ThreadMXBean) e
+ * falha (código de saída 1) se algum cenário passar do orçamento registrado
+ * em orcamento-alocacao.properties. Roda na fase 'verify' do módulo de benchmarks.
+ *
+ * Para regravar os orçamentos depois de uma mudança intencional:
+ * mvn verify -Patualizar-orcamento (ou VerificarAlocacoes --atualizar <arquivo>)
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class VerificarAlocacoes {
+
+    private static final String ARQUIVO_ORCAMENTO = "/orcamento-alocacao.properties";
+    private static final int ITERACOES = 20_000;
+    private static final int RODADAS = 5;
+    private static final long TOLERANCIA_PADRAO = 16;
+    private static final int JOGADORES_SCANNER = 100;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private VerificarAlocacoes() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String atualizar = args.length == 2 && "--atualizar".equals(args[0]) ? args[1] : null;
+
+        if (!THREADS.isThreadAllocatedMemorySupported()) {
+            System.out.println("Esta JVM não mede alocação por thread; verificação ignorada.");
+            return;
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        Map<String, Runnable> cenarios = criarCenarios();
+        Map<String, Long> medidas = new LinkedHashMap<>();
+
+        long base = medir(() -> { });
+        for (Map.Entry<String, Runnable> cenario : cenarios.entrySet()) {
+            medidas.put(cenario.getKey(), Math.max(0, medir(cenario.getValue()) - base));
+        }
+
+        if (atualizar != null) {
+            gravarOrcamento(atualizar, medidas);
+            return;
+        }
+
+        if (!verificar(carregarOrcamento(), medidas)) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Monta um lobby com um jogador sem permissões de admin e um evento pronto para cada cenário
+     * Os eventos são criados uma vez e reutilizados, para que só o trabalho dos handlers seja medido
+     */
+    private static Map<String, Runnable> criarCenarios() {
+        ArteDaGuerraCore plugin = Stubs.plugin(7);
+        // Sem cooldown de menu: a bússola abre o menu em toda execução, em vez de cair na rejeição
+        plugin.getConfig().set("lobby.cooldowns.gui", 0);
+        LobbyManager lobbyManager = new LobbyManager(plugin);
+        World lobby = Stubs.mundo("lobby");
+        Player jogador = Stubs.jogador(UUID.randomUUID(), lobby, false);
+
+        lobbyManager.getMembership().definirMundos(Collections.singletonList("lobby"));
+        lobbyManager.getMembership().atualizar(jogador, lobby);
+        plugin.getEraAccessCache().atualizar(jogador);
+
+        ProtectionManager protecao = new ProtectionManager();
+        protecao.compilar(plugin.getConfig(), lobbyManager.getMembership().getMundos(), plugin.getEraRegistry(), plugin.getLogger());
+        protecao.atualizar(jogador);
+
+        LobbyListener listener = new LobbyListener(lobbyManager);
+        ProtectionListener protecaoListener = new ProtectionListener(protecao, lobbyManager);
+        LobbyGUI gui = new LobbyGUI(lobbyManager);
+        LobbyCommand comando = new LobbyCommand(lobbyManager);
+
+        // Menu de informações: o slot 0 não tem ação
+        LobbyMenu menu = new LobbyMenu(new MenuTemplateCache(lobbyManager, gui).getMenuInformacoes());
+        Inventory inventarioJogador = Stubs.proxy(Inventory.class, Stubs::padrao);
+
+        Block bloco = Stubs.proxy(Block.class, Stubs::padrao);
+        BlockState estado = Stubs.proxy(BlockState.class, Stubs::padrao);
+        Item itemNoChao = Stubs.proxy(Item.class, Stubs::padrao);
+        DamageSource origemDano = Stubs.proxy(DamageSource.class, Stubs::padrao);
+        ItemStack bussola = lobbyManager.getNavigationItems().getMenuEras();
+        ItemStack pedra = new ItemStack(Material.STONE);
+
+        PlayerInteractEvent interacaoBussola = new PlayerInteractEvent(jogador, Action.RIGHT_CLICK_AIR, bussola, null, BlockFace.SELF);
+        PlayerInteractEvent interacaoComum = new PlayerInteractEvent(jogador, Action.RIGHT_CLICK_AIR, pedra, null, BlockFace.SELF);
+        PlayerInteractEvent interacaoVazia = new PlayerInteractEvent(jogador, Action.RIGHT_CLICK_AIR, null, null, BlockFace.SELF);
+        InventoryClickEvent cliqueMenu = new InventoryClickEvent(visao(jogador, menu.getInventory(), inventarioJogador),
+            InventoryType.SlotType.CONTAINER, 0, ClickType.LEFT, InventoryAction.PICKUP_ALL);
+        InventoryClickEvent cliqueInventario = new InventoryClickEvent(visao(jogador, inventarioJogador, inventarioJogador),
+            InventoryType.SlotType.CONTAINER, 0, ClickType.LEFT, InventoryAction.PICKUP_ALL);
+        InventoryDragEvent arrasteMenu = new InventoryDragEvent(visao(jogador, menu.getInventory(), inventarioJogador),
+            null, pedra, false, Collections.singletonMap(0, pedra));
+        BlockBreakEvent quebra = new BlockBreakEvent(bloco, jogador);
+        BlockPlaceEvent colocacao = new BlockPlaceEvent(bloco, estado, bloco, pedra, jogador, true, EquipmentSlot.HAND);
+        EntityDamageEvent dano = new EntityDamageEvent(jogador, EntityDamageEvent.DamageCause.FALL, origemDano, 1.0);
+        FoodLevelChangeEvent fome = new FoodLevelChangeEvent(jogador, 19);
+        PlayerDropItemEvent drop = new PlayerDropItemEvent(jogador, itemNoChao);
+        PlayerQuitEvent saida = new PlayerQuitEvent(jogador, "");
+
+        Command comandoEras = new Command("eras") {
+            @Override
+            public boolean execute(CommandSender sender, String label, String[] argumentos) {
+                return true;
+            }
+        };
+        String[] semArgumentos = new String[0];
+
+        // Scanner amostrando todos os jogadores a cada tick; cada um anda um bloco por tick
+        int[] passo = new int[1];
+        List<Player> andando = new ArrayList<>(JOGADORES_SCANNER);
+        for (int i = 0; i < JOGADORES_SCANNER; i++) {
+            Player player = Stubs.jogadorAndando(UUID.randomUUID(), lobby, i * 4, passo);
+            lobbyManager.getMembership().atualizar(player, lobby);
+            andando.add(player);
+        }
+        Stubs.definirOnline(andando);
+        ProximityScanner scanner = new ProximityScanner(lobbyManager, 1, 40);
+
+        Map<String, Runnable> cenarios = new LinkedHashMap<>();
+        cenarios.put("interacao_bussola", () -> listener.onPlayerInteract(interacaoBussola));
+        cenarios.put("interacao_item_comum", () -> listener.onPlayerInteract(interacaoComum));
+        cenarios.put("interacao_sem_item", () -> listener.onPlayerInteract(interacaoVazia));
+        cenarios.put("clique_menu", () -> listener.onInventoryClick(cliqueMenu));
+        cenarios.put("clique_inventario_lobby", () -> listener.onInventoryClick(cliqueInventario));
+        cenarios.put("arraste_menu", () -> listener.onInventoryDrag(arrasteMenu));
+        cenarios.put("quebra_bloco", () -> protecaoListener.onBlockBreak(quebra));
+        cenarios.put("colocacao_bloco", () -> protecaoListener.onBlockPlace(colocacao));
+        cenarios.put("dano", () -> protecaoListener.onEntityDamage(dano));
+        cenarios.put("fome", () -> protecaoListener.onFoodLevelChange(fome));
+        cenarios.put("drop_item", () -> protecaoListener.onPlayerDropItem(drop));
+        cenarios.put("saida", () -> listener.onPlayerQuit(saida));
+        cenarios.put("menu_selecao_eras", () -> gui.abrirMenuSelecaoEras(jogador));
+        cenarios.put("comando_eras", () -> comando.onCommand(jogador, comandoEras, "eras", semArgumentos));
+        cenarios.put("scanner_tick_" + JOGADORES_SCANNER + "_jogadores", () -> {
+            passo[0]++;
+            scanner.run();
+        });
+        return cenarios;
+    }
+
+    private static InventoryView visao(Player jogador, Inventory topo, Inventory inferior) {
+        return Stubs.proxy(InventoryView.class, (proxy, metodo, argumentos) -> {
+            switch (metodo.getName()) {
+                case "getTopInventory":
+                    return topo;
+                case "getBottomInventory":
+                    return inferior;
+                case "getPlayer":
+                    return jogador;
+                case "convertSlot":
+                    return argumentos[0];
+                default:
+                    return Stubs.padrao(proxy, metodo, argumentos);
+            }
+        });
+    }
+
+    /**
+     * Bytes alocados por execução: aquece e usa a menor de várias rodadas (descarta recompilações do JIT)
+     */
+    private static long medir(Runnable cenario) {
+        for (int i = 0; i < ITERACOES; i++) {
+            cenario.run();
+        }
+
+        long menor = Long.MAX_VALUE;
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            long antes = THREADS.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < ITERACOES; i++) {
+                cenario.run();
+            }
+            menor = Math.min(menor, THREADS.getCurrentThreadAllocatedBytes() - antes);
+        }
+
+        return Math.round((double) menor / ITERACOES);
+    }
+
+    private static boolean verificar(Properties orcamento, Map<String, Long> medidas) {
+        long tolerancia = Long.parseLong(orcamento.getProperty("tolerancia", String.valueOf(TOLERANCIA_PADRAO)));
+        boolean aprovado = true;
+
+        System.out.printf("%-26s %10s %10s%n", "cenário", "bytes/op", "orçamento");
+        for (Map.Entry<String, Long> medida : medidas.entrySet()) {
+            String limite = orcamento.getProperty(medida.getKey());
+            String situacao;
+
+            if (limite == null) {
+                situacao = "SEM ORÇAMENTO";
+                aprovado = false;
+            } else if (medida.getValue() > Long.parseLong(limite) + tolerancia) {
+                situacao = "ACIMA";
+                aprovado = false;
+            } else {
+                situacao = "ok";
+            }
+
+            System.out.printf("%-26s %10d %10s  %s%n", medida.getKey(), medida.getValue(),
+                limite != null ? limite : "-", situacao);
+        }
+
+        if (!aprovado) {
+            System.out.println("Alocação acima do orçamento ou cenário sem orçamento medido! Corrija a regressão ou, "
+                + "numa JVM de referência (Java 21, como no CI), regrave os orçamentos com mvn verify -Patualizar-orcamento.");
+        }
+        return aprovado;
+    }
+
+    private static Properties carregarOrcamento() throws IOException {
+        Properties orcamento = new Properties();
+
+        try (InputStream entrada = VerificarAlocacoes.class.getResourceAsStream(ARQUIVO_ORCAMENTO)) {
+            if (entrada != null) {
+                orcamento.load(entrada);
+            }
+        }
+        return orcamento;
+    }
+
+    /**
+     * Regrava o arquivo de orçamentos com as medidas atuais (arredondadas para cima em múltiplos de 8)
+     */
+    private static void gravarOrcamento(String caminho, Map<String, Long> medidas) throws IOException {
+        Properties atual = new Properties();
+        try (InputStream entrada = new FileInputStream(caminho)) {
+            atual.load(entrada);
+        } catch (IOException e) {
+            // Arquivo novo
+        }
+
+        StringBuilder conteudo = new StringBuilder()
+            .append("# Bytes alocados por evento/chamada, medidos por VerificarAlocacoes\n")
+            .append("# O build falha quando um cenario passa de orcamento + tolerancia\n")
+            .append("# Inclui o Object[] das chamadas com argumentos aos Proxies de Bukkit (o plugin falso nao aloca);\n")
+            .append("# serve para detectar regressoes, nao como o custo absoluto no servidor\n")
+            .append("tolerancia=").append(atual.getProperty("tolerancia", String.valueOf(TOLERANCIA_PADRAO))).append('\n');
+
+        for (Map.Entry<String, Long> medida : medidas.entrySet()) {
+            long arredondado = (medida.getValue() + 7) / 8 * 8;
+            conteudo.append(medida.getKey()).append('=').append(arredondado).append('\n');
+            System.out.printf("%-26s %10d%n", medida.getKey(), arredondado);
+        }
+
+        try (OutputStream saida = new FileOutputStream(caminho)) {
+            saida.write(conteudo.toString().getBytes(StandardCharsets.ISO_8859_1));
+        }
+        System.out.println("Orçamentos gravados em " + caminho);
+    }
+}
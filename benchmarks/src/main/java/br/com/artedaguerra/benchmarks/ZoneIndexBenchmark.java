@@ -0,0 +1,97 @@
+package br.com.artedaguerra.benchmarks;
+
+import br.com.artedaguerra.lobby.LobbyZone;
+import br.com.artedaguerra.lobby.ZoneIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consulta de zona feita a cada amostra de posição do scanner de proximidade
+ * (o trabalho que antes rodava em todo PlayerMoveEvent do LobbyListener).
+ * 'linear' reproduz a verificação antiga, zona por zona, como referência
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZoneIndexBenchmark {
+
+    private static final int PONTOS = 1024;
+
+    @Param({"7", "64"})
+    public int zonas;
+
+    private ZoneIndex indice;
+    private LobbyZone[] lista;
+    private double[] pontos;
+    private int cursor;
+
+    @Setup
+    public void preparar() {
+        ZoneIndex.Builder builder = new ZoneIndex.Builder();
+        Random aleatorio = new Random(42);
+
+        // Plataformas das eras em círculo, como no LobbyManager
+        for (int era = 1; era <= Math.min(zonas, 7); era++) {
+            double angulo = Math.toRadians((era - 1) * (360.0 / 7));
+            builder.adicionar(LobbyZone.circular("era_" + era, era, null,
+                20 * Math.cos(angulo), 100, 20 * Math.sin(angulo), 3.0, 3.0));
+        }
+
+        // Zonas extras espalhadas pelo lobby
+        for (int i = 7; i < zonas; i++) {
+            double x = aleatorio.nextInt(160) - 80;
+            double z = aleatorio.nextInt(160) - 80;
+            builder.adicionar(LobbyZone.retangular("extra_" + i, 0, "Zona " + i, x, 98, z, x + 6, 104, z + 6));
+        }
+
+        indice = builder.build();
+        lista = indice.getZonas();
+
+        pontos = new double[PONTOS * 3];
+        for (int i = 0; i < PONTOS; i++) {
+            pontos[i * 3] = aleatorio.nextDouble() * 100 - 50;
+            pontos[i * 3 + 1] = 99 + aleatorio.nextDouble() * 3;
+            pontos[i * 3 + 2] = aleatorio.nextDouble() * 100 - 50;
+        }
+    }
+
+    @Benchmark
+    public LobbyZone indice() {
+        int base = proximo();
+        return indice.buscar(pontos[base], pontos[base + 1], pontos[base + 2]);
+    }
+
+    @Benchmark
+    public LobbyZone linear() {
+        int base = proximo();
+        for (LobbyZone zona : lista) {
+            if (zona.contem(pontos[base], pontos[base + 1], pontos[base + 2])) {
+                return zona;
+            }
+        }
+        return null;
+    }
+
+    private int proximo() {
+        cursor = (cursor + 1) & (PONTOS - 1);
+        return cursor * 3;
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.artedaguerra.simulacao;
+
+import java.util.Random;
+
+/**
+ * Ações que um jogador simulado pode executar, com o peso de cada uma no sorteio
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public enum Acao {
+
+    ANDAR(40),
+    BUSSOLA(15),
+    CLIQUE_MENU(10),
+    COMANDO_ERA(8),
+    COMANDO_ERAS(8),
+    COMANDO_LOBBY(8),
+    TROCAR_MUNDO(8),
+    SAIR(3);
+
+    private static final Acao[] VALORES = values();
+    private static final int PESO_TOTAL;
+
+    static {
+        int total = 0;
+        for (Acao acao : VALORES) {
+            total += acao.peso;
+        }
+        PESO_TOTAL = total;
+    }
+
+    private final int peso;
+
+    Acao(int peso) {
+        this.peso = peso;
+    }
+
+    /**
+     * Sorteia uma ação respeitando os pesos
+     */
+    public static Acao sortear(Random aleatorio) {
+        int valor = aleatorio.nextInt(PESO_TOTAL);
+
+        for (Acao acao : VALORES) {
+            valor -= acao.peso;
+            if (valor < 0) {
+                return acao;
+            }
+        }
+        return ANDAR;
+    }
+}
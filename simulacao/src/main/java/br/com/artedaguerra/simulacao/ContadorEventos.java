@@ -0,0 +1,83 @@
+package br.com.artedaguerra.simulacao;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Conta os eventos que chegaram aos listeners do plugin durante a simulação
+ * Roda em MONITOR, depois do plugin, e registra também os cancelados
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class ContadorEventos implements Listener {
+
+    private final Map<String, long[]> contagens = new TreeMap<>();
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        contar(event);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        contar(event);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onMove(PlayerMoveEvent event) {
+        // PlayerTeleportEvent estende PlayerMoveEvent e é contado à parte
+        if (!(event instanceof PlayerTeleportEvent)) {
+            contar(event);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTeleport(PlayerTeleportEvent event) {
+        contar(event);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangedWorld(PlayerChangedWorldEvent event) {
+        contar(event);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInteract(PlayerInteractEvent event) {
+        contar(event);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        contar(event);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClick(InventoryClickEvent event) {
+        contar(event);
+    }
+
+    private void contar(Event event) {
+        contagens.computeIfAbsent(event.getEventName(), nome -> new long[1])[0]++;
+    }
+
+    /**
+     * Contagens por nome de evento, em ordem alfabética
+     */
+    public Map<String, long[]> getContagens() {
+        return contagens;
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.artedaguerra.simulacao;
+
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+
+/**
+ * Jogador da simulação e o tick da sua próxima ação
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class JogadorSimulado {
+
+    private final PlayerMock jogador;
+    private long proximaAcao;
+
+    public JogadorSimulado(PlayerMock jogador, long proximaAcao) {
+        this.jogador = jogador;
+        this.proximaAcao = proximaAcao;
+    }
+
+    public PlayerMock getJogador() {
+        return jogador;
+    }
+
+    public long getProximaAcao() {
+        return proximaAcao;
+    }
+
+    public void setProximaAcao(long proximaAcao) {
+        this.proximaAcao = proximaAcao;
+    }
+}
@@ -0,0 +1,451 @@
+package br.com.artedaguerra.simulacao;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import br.com.artedaguerra.ArteDaGuerraCore;
+import br.com.artedaguerra.lobby.LobbyMenu;
+import br.com.artedaguerra.lobby.LobbyShard;
+import br.com.artedaguerra.lobby.NavigationItems;
+import br.com.artedaguerra.metricas.LatencyHistogram;
+import br.com.artedaguerra.metricas.MetricType;
+import br.com.artedaguerra.metricas.PerformanceMonitor;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.BlockFace;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.permissions.PermissionAttachment;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Simulação de carga de ponta a ponta
+ * Sobe o plugin em um servidor MockBukkit e conecta jogadores que andam pelo
+ * lobby, usam a bússola e o menu, executam /era, /eras e /lobby e trocam de
+ * mundo, seguindo um roteiro sorteado a partir de uma semente fixa.
+ * Ao final mostra o tempo por tick, os eventos disparados e o crescimento da memória.
+ * O tempo do plugin por tick conta só as chamadas que chegam ao plugin (entradas,
+ * comandos, eventos, movimentos, cliques, teleportes, a atualização do cache de
+ * acesso) e o performOneTick; a criação dos jogadores, as permissões, os sorteios
+ * e a montagem dos eventos aparecem à parte, como harness
+ *
+ * Uso: mvn -q compile exec:java -Dexec.args="--jogadores 1000 --ticks 6000 --semente 42"
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class SimulacaoCarga {
+
+    private static final int QUANTIDADE_ERAS = 7;
+    private static final double RAIO_LOBBY = 40;
+
+    private final Opcoes opcoes;
+    private final Random aleatorio;
+    private final List<JogadorSimulado> jogadores = new ArrayList<>();
+    private final List<World> mundosEras = new ArrayList<>();
+    private final long[] acoesExecutadas = new long[Acao.values().length];
+    private final Set<String> errosVistos = new HashSet<>();
+    private final LatencyHistogram tempoPlugin = new LatencyHistogram();
+    private final LatencyHistogram tempoPluginJanela = new LatencyHistogram();
+    private final LatencyHistogram tempoAgendador = new LatencyHistogram();
+    private final LatencyHistogram tempoHarness = new LatencyHistogram();
+    private final LatencyHistogram tempoHarnessJanela = new LatencyHistogram();
+    private final MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+
+    private ServerMock servidor;
+    private ArteDaGuerraCore plugin;
+    private ContadorEventos eventos;
+    private long conectados;
+    private long erros;
+    private long memoriaInicial;
+    private long memoriaMaxima;
+    private long nanosPluginTick; // tempo das chamadas ao plugin no tick atual
+
+    private SimulacaoCarga(Opcoes opcoes) {
+        this.opcoes = opcoes;
+        this.aleatorio = new Random(opcoes.semente);
+    }
+
+    public static void main(String[] args) {
+        new SimulacaoCarga(Opcoes.ler(args)).executar();
+    }
+
+    private void executar() {
+        iniciarServidor();
+
+        try {
+            for (int tick = 0; tick < opcoes.aquecimento; tick++) {
+                servidor.getScheduler().performOneTick();
+            }
+
+            memoriaInicial = medirMemoria(true);
+            System.out.printf("Plugin carregado: %d mundos de eras, %d instâncias do lobby, heap %d MB%n",
+                mundosEras.size(), plugin.getLobbyManager().getShards().size(), memoriaInicial >> 20);
+
+            simular();
+            imprimirRelatorio();
+        } finally {
+            MockBukkit.unmock();
+        }
+    }
+
+    /**
+     * Cria o servidor falso, os mundos das eras (antes do plugin, para que o registro os encontre) e carrega o plugin
+     */
+    private void iniciarServidor() {
+        servidor = MockBukkit.mock();
+
+        ConfigurationSection eras = lerConfiguracaoPadrao().getConfigurationSection("eras");
+        if (eras != null) {
+            for (String chave : eras.getKeys(false)) {
+                String mundo = eras.getString(chave + ".mundo");
+                if (mundo != null) {
+                    mundosEras.add(servidor.addSimpleWorld(mundo));
+                }
+            }
+        }
+
+        plugin = MockBukkit.load(ArteDaGuerraCore.class);
+
+        eventos = new ContadorEventos();
+        servidor.getPluginManager().registerEvents(eventos, MockBukkit.createMockPlugin("Simulacao"));
+    }
+
+    private YamlConfiguration lerConfiguracaoPadrao() {
+        InputStream entrada = ArteDaGuerraCore.class.getResourceAsStream("/config.yml");
+        if (entrada == null) {
+            return new YamlConfiguration();
+        }
+        return YamlConfiguration.loadConfiguration(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+    }
+
+    private void simular() {
+        for (long tick = 1; tick <= opcoes.ticks; tick++) {
+            long inicio = System.nanoTime();
+            nanosPluginTick = 0;
+
+            conectarNovos(tick);
+
+            Iterator<JogadorSimulado> iterator = jogadores.iterator();
+            while (iterator.hasNext()) {
+                JogadorSimulado jogador = iterator.next();
+                if (jogador.getProximaAcao() > tick) {
+                    continue;
+                }
+
+                if (!executarAcao(jogador.getJogador(), Acao.sortear(aleatorio))) {
+                    iterator.remove();
+                    continue;
+                }
+                jogador.setProximaAcao(tick + 1 + aleatorio.nextInt(opcoes.intervaloAcoes * 2));
+            }
+
+            long inicioAgendador = System.nanoTime();
+            servidor.getScheduler().performOneTick();
+            long agendador = System.nanoTime() - inicioAgendador;
+
+            long noPlugin = nanosPluginTick + agendador;
+            long harness = Math.max(0, System.nanoTime() - inicio - noPlugin);
+            tempoAgendador.registrar(agendador);
+            tempoPlugin.registrar(noPlugin);
+            tempoPluginJanela.registrar(noPlugin);
+            tempoHarness.registrar(harness);
+            tempoHarnessJanela.registrar(harness);
+
+            if (tick % opcoes.relatorio == 0) {
+                imprimirJanela(tick);
+            }
+        }
+    }
+
+    /**
+     * Conecta até 'entradasPorTick' jogadores enquanto a população estiver abaixo do alvo
+     */
+    private void conectarNovos(long tick) {
+        for (int i = 0; i < opcoes.entradasPorTick && jogadores.size() < opcoes.jogadores; i++) {
+            // A entrada dispara o PlayerJoinEvent e os handlers do plugin: conta como plugin
+            PlayerMock player = new PlayerMock(servidor, "Jogador" + conectados);
+            medir(() -> servidor.addPlayer(player));
+            conectados++;
+
+            // Acesso sorteado: cerca de 2/3 das eras por jogador
+            PermissionAttachment permissoes = player.addAttachment(plugin);
+            permissoes.setPermission("artedaguerra.lobby", true);
+            permissoes.setPermission("artedaguerra.era", true);
+            permissoes.setPermission("artedaguerra.eras", true);
+            for (int era = 1; era <= QUANTIDADE_ERAS; era++) {
+                permissoes.setPermission("artedaguerra.era." + era, aleatorio.nextInt(3) != 0);
+            }
+            medir(() -> plugin.getEraAccessCache().atualizar(player));
+
+            jogadores.add(new JogadorSimulado(player, tick + 1 + aleatorio.nextInt(opcoes.intervaloAcoes)));
+        }
+    }
+
+    /**
+     * Executa uma ação do jogador
+     *
+     * @return false se o jogador saiu do servidor
+     */
+    private boolean executarAcao(PlayerMock player, Acao acao) {
+        acoesExecutadas[acao.ordinal()]++;
+
+        try {
+            switch (acao) {
+                case ANDAR:
+                    andar(player);
+                    break;
+
+                case BUSSOLA:
+                    usarBussola(player);
+                    break;
+
+                case CLIQUE_MENU:
+                    clicarMenu(player);
+                    break;
+
+                case COMANDO_ERA:
+                    comando(player, "era " + (1 + aleatorio.nextInt(QUANTIDADE_ERAS)));
+                    break;
+
+                case COMANDO_ERAS:
+                    comando(player, "eras");
+                    break;
+
+                case COMANDO_LOBBY:
+                    int shards = plugin.getLobbyManager().getShards().size();
+                    comando(player, shards > 1 && aleatorio.nextBoolean()
+                        ? "lobby " + (1 + aleatorio.nextInt(shards))
+                        : "lobby");
+                    break;
+
+                case TROCAR_MUNDO:
+                    trocarMundo(player);
+                    break;
+
+                case SAIR:
+                    medir(player::disconnect);
+                    return false;
+            }
+        } catch (RuntimeException e) {
+            erros++;
+
+            // Mostra cada tipo de erro uma vez (ex.: operações que o MockBukkit não implementa)
+            String chave = acao + ": " + e.getClass().getSimpleName();
+            if (errosVistos.add(chave)) {
+                System.out.println("Erro em " + chave + " - " + e.getMessage());
+            }
+        }
+
+        return true;
+    }
+
+    private void andar(PlayerMock player) {
+        Location atual = player.getLocation();
+        Location destino = atual.clone().add(aleatorio.nextDouble() * 6 - 3, 0, aleatorio.nextDouble() * 6 - 3);
+
+        // No lobby, mantém o jogador perto das plataformas
+        LobbyShard shard = plugin.getLobbyManager().getShard(atual.getWorld());
+        if (shard != null && destino.distanceSquared(shard.getSpawn()) > RAIO_LOBBY * RAIO_LOBBY) {
+            destino = shard.getSpawn();
+        }
+
+        Location alvo = destino;
+        medir(() -> player.simulatePlayerMove(alvo));
+    }
+
+    private void usarBussola(PlayerMock player) {
+        ItemStack item = player.getInventory().getItem(NavigationItems.SLOT_MENU_ERAS);
+        PlayerInteractEvent evento = new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR, item, null, BlockFace.SELF);
+        medir(() -> servidor.getPluginManager().callEvent(evento));
+    }
+
+    private void clicarMenu(PlayerMock player) {
+        Inventory topo = player.getOpenInventory().getTopInventory();
+
+        if (!(topo.getHolder() instanceof LobbyMenu)) {
+            comando(player, "eras");
+            return;
+        }
+        int slot = aleatorio.nextInt(topo.getSize());
+        medir(() -> player.simulateInventoryClick(slot));
+    }
+
+    private void trocarMundo(PlayerMock player) {
+        if (mundosEras.isEmpty()) {
+            return;
+        }
+
+        Location destino = mundosEras.get(aleatorio.nextInt(mundosEras.size())).getSpawnLocation();
+        medir(() -> player.teleport(destino));
+    }
+
+    private void comando(PlayerMock player, String comando) {
+        medir(() -> player.performCommand(comando));
+    }
+
+    /**
+     * Executa uma chamada que chega ao plugin e soma o tempo dela ao tick atual
+     */
+    private void medir(Runnable chamada) {
+        long inicio = System.nanoTime();
+        try {
+            chamada.run();
+        } finally {
+            nanosPluginTick += System.nanoTime() - inicio;
+        }
+    }
+
+    private long medirMemoria(boolean coletar) {
+        if (coletar) {
+            System.gc();
+        }
+
+        long usada = memoria.getHeapMemoryUsage().getUsed();
+        memoriaMaxima = Math.max(memoriaMaxima, usada);
+        return usada;
+    }
+
+    private void imprimirJanela(long tick) {
+        LatencyHistogram.Snapshot janela = tempoPluginJanela.copiarEZerar();
+        LatencyHistogram.Snapshot harness = tempoHarnessJanela.copiarEZerar();
+
+        System.out.printf("tick %6d | online %5d | plugin p50 %s p99 %s máx %s | harness p99 %s | heap %d MB%n",
+            tick, jogadores.size(),
+            formatarNanos(janela.getPercentil(0.50)),
+            formatarNanos(janela.getPercentil(0.99)),
+            formatarNanos(janela.getMaximo()),
+            formatarNanos(harness.getPercentil(0.99)),
+            medirMemoria(false) >> 20);
+    }
+
+    private void imprimirRelatorio() {
+        servidor.getScheduler().waitAsyncTasksFinished();
+        long memoriaFinal = medirMemoria(true);
+        LatencyHistogram.Snapshot ticks = tempoPlugin.copiar();
+
+        System.out.println();
+        System.out.println("=== Resultado (semente " + opcoes.semente + ") ===");
+        System.out.printf("Ticks: %d | jogadores conectados: %d | online no fim: %d%n",
+            ticks.getQuantidade(), conectados, jogadores.size());
+        imprimirTempos("Tempo do plugin por tick", ticks);
+        imprimirTempos("  só o agendador", tempoAgendador.copiar());
+        imprimirTempos("Harness por tick (fora do plugin)", tempoHarness.copiar());
+        System.out.printf("Memória: inicial %d MB | final %d MB | pico %d MB | crescimento %+d KB (%+d bytes/jogador)%n",
+            memoriaInicial >> 20, memoriaFinal >> 20, memoriaMaxima >> 20,
+            (memoriaFinal - memoriaInicial) >> 10,
+            conectados > 0 ? (memoriaFinal - memoriaInicial) / conectados : 0);
+
+        System.out.println();
+        System.out.println("Ações:");
+        for (Acao acao : Acao.values()) {
+            System.out.printf("  %-14s %d%n", acao, acoesExecutadas[acao.ordinal()]);
+        }
+        System.out.println("  erros          " + erros);
+
+        System.out.println();
+        System.out.println("Eventos:");
+        for (Map.Entry<String, long[]> entrada : eventos.getContagens().entrySet()) {
+            System.out.printf("  %-26s %d%n", entrada.getKey(), entrada.getValue()[0]);
+        }
+
+        PerformanceMonitor monitor = plugin.getPerformanceMonitor();
+        if (monitor.isAtivado()) {
+            System.out.println();
+            System.out.println("Métricas do plugin:");
+            for (MetricType tipo : MetricType.values()) {
+                LatencyHistogram.Snapshot snapshot = monitor.getAcumulado(tipo);
+                if (snapshot.getQuantidade() == 0) {
+                    continue;
+                }
+
+                System.out.printf("  %-20s n=%d | p50 %s | p99 %s | máx %s%n",
+                    tipo.getDescricao(), snapshot.getQuantidade(),
+                    formatarNanos(snapshot.getPercentil(0.50)),
+                    formatarNanos(snapshot.getPercentil(0.99)),
+                    formatarNanos(snapshot.getMaximo()));
+            }
+        }
+    }
+
+    private static void imprimirTempos(String titulo, LatencyHistogram.Snapshot tempos) {
+        System.out.printf("%s: média %s | p50 %s | p95 %s | p99 %s | máx %s%n", titulo,
+            formatarNanos(tempos.getMedia()),
+            formatarNanos(tempos.getPercentil(0.50)),
+            formatarNanos(tempos.getPercentil(0.95)),
+            formatarNanos(tempos.getPercentil(0.99)),
+            formatarNanos(tempos.getMaximo()));
+    }
+
+    private static String formatarNanos(long nanos) {
+        if (nanos >= 1_000_000) {
+            return String.format("%.2fms", nanos / 1_000_000.0);
+        }
+        return String.format("%.1fµs", nanos / 1_000.0);
+    }
+
+    /**
+     * Parâmetros da simulação, lidos como "--nome valor"
+     */
+    private static final class Opcoes {
+
+        private int jogadores = 500;
+        private long ticks = 6000;
+        private long semente = 42;
+        private int entradasPorTick = 5;
+        private int intervaloAcoes = 20;
+        private int relatorio = 200;
+        private int aquecimento = 100;
+
+        private static Opcoes ler(String[] args) {
+            Opcoes opcoes = new Opcoes();
+
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                String valor = args[i + 1];
+
+                switch (args[i]) {
+                    case "--jogadores":
+                        opcoes.jogadores = Integer.parseInt(valor);
+                        break;
+                    case "--ticks":
+                        opcoes.ticks = Long.parseLong(valor);
+                        break;
+                    case "--semente":
+                        opcoes.semente = Long.parseLong(valor);
+                        break;
+                    case "--entradas-por-tick":
+                        opcoes.entradasPorTick = Math.max(1, Integer.parseInt(valor));
+                        break;
+                    case "--intervalo-acoes":
+                        opcoes.intervaloAcoes = Math.max(1, Integer.parseInt(valor));
+                        break;
+                    case "--relatorio":
+                        opcoes.relatorio = Math.max(1, Integer.parseInt(valor));
+                        break;
+                    case "--aquecimento":
+                        opcoes.aquecimento = Math.max(0, Integer.parseInt(valor));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+                }
+            }
+            return opcoes;
+        }
+    }
+}
@@ -1,13 +1,47 @@
 package br.com.artedaguerra;
 
+import br.com.artedaguerra.era.EraAccessCache;
+import br.com.artedaguerra.era.EraAccessListener;
+import br.com.artedaguerra.era.EraDefinition;
+import br.com.artedaguerra.era.EraRegistry;
+import br.com.artedaguerra.era.EraWorldManager;
+import br.com.artedaguerra.economia.EconomyListener;
+import br.com.artedaguerra.economia.EconomyService;
+import br.com.artedaguerra.integracao.ArteDaGuerraExpansion;
+import br.com.artedaguerra.integracao.LuckPermsHook;
+import br.com.artedaguerra.integracao.PlaceholderCache;
+import br.com.artedaguerra.integracao.VaultEconomyProvider;
+import br.com.artedaguerra.integracao.WorldGuardHook;
+import br.com.artedaguerra.inventario.InventoryListener;
+import br.com.artedaguerra.inventario.InventoryStore;
 import br.com.artedaguerra.lobby.LobbyCommand;
 import br.com.artedaguerra.lobby.LobbyListener;
 import br.com.artedaguerra.lobby.LobbyManager;
+import br.com.artedaguerra.lobby.LobbyMembershipListener;
+import br.com.artedaguerra.metricas.LatencyHistogram;
+import br.com.artedaguerra.metricas.MetricType;
+import br.com.artedaguerra.metricas.MetricsExporter;
+import br.com.artedaguerra.metricas.PerformanceMonitor;
+import br.com.artedaguerra.pregeracao.PregenJob;
+import br.com.artedaguerra.pregeracao.PregenManager;
+import br.com.artedaguerra.progressao.ProgressionListener;
+import br.com.artedaguerra.progressao.ProgressionManager;
+import br.com.artedaguerra.progressao.SqliteProgressionStorage;
+import br.com.artedaguerra.protecao.ProtectionListener;
+import br.com.artedaguerra.protecao.ProtectionManager;
 import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.function.Consumer;
 
 /**
  * Classe principal do plugin Arte da Guerra
@@ -20,6 +54,32 @@ public class ArteDaGuerraCore extends JavaPlugin {
     
     private static ArteDaGuerraCore instance;
     private LobbyManager lobbyManager;
+    private volatile EraRegistry eraRegistry = EraRegistry.VAZIO;
+    private EraAccessCache eraAccessCache;
+    private EraWorldManager eraWorldManager;
+    private PregenManager pregenManager;
+    private ProgressionManager progressionManager;
+    private InventoryStore inventoryStore;
+    private final PerformanceMonitor performanceMonitor = new PerformanceMonitor();
+    private final ProtectionManager protectionManager = new ProtectionManager();
+    private MetricsExporter metricsExporter;
+    private LuckPermsHook luckPermsHook;
+    private PlaceholderCache placeholderCache;
+    private ArteDaGuerraExpansion placeholderExpansion;
+    private EconomyService economyService;
+    private WorldGuardHook worldGuardHook;
+    private BukkitTask tarefaPermissoes;
+    
+    public ArteDaGuerraCore() {
+        super();
+    }
+    
+    /**
+     * Cria o plugin fora do servidor (benchmarks e simulação), sem PluginClassLoader
+     */
+    protected ArteDaGuerraCore(JavaPluginLoader loader, PluginDescriptionFile descricao, File pastaDados, File arquivo) {
+        super(loader, descricao, pastaDados, arquivo);
+    }
     
     @Override
     public void onEnable() {
@@ -60,18 +120,269 @@ public class ArteDaGuerraCore extends JavaPlugin {
      * Inicializa todos os sistemas do plugin
      */
     private void inicializarSistemas() {
+        // Métricas de desempenho
+        performanceMonitor.iniciar(this, getConfig().getBoolean("metricas.ativadas", true),
+            getConfig().getInt("metricas.janela", 60));
+        
+        // Compilar registro das eras
+        recarregarEras();
+        
+        // Mundos das eras sob demanda (opcional)
+        if (getConfig().getBoolean("mundos_eras.gerenciar", false)) {
+            eraWorldManager = new EraWorldManager(this);
+            eraWorldManager.iniciar(getConfig().getLong("mundos_eras.ocioso", 300),
+                getConfig().getLong("mundos_eras.verificacao_intervalo", 30),
+                getConfig().getInt("mundos_eras.chunks_por_tick", 16));
+        }
+        
+        // Pré-geração de chunks (retoma trabalhos interrompidos)
+        pregenManager = new PregenManager(this, new File(getDataFolder(), "pregeracao.yml"));
+        pregenManager.iniciar(getConfig().getLong("pregeracao.orcamento_ms", 10),
+            getConfig().getDouble("pregeracao.mspt_max", 40.0),
+            getConfig().getDouble("pregeracao.tps_min", 18.0),
+            getConfig().getInt("pregeracao.jogadores_max", 20),
+            getConfig().getInt("pregeracao.max_pendentes", 16),
+            getConfig().getLong("pregeracao.salvar_intervalo", 30));
+        
+        // Progressão dos jogadores
+        iniciarProgressao();
+        
+        // Taxas de entrada (opcional)
+        configurarEconomia();
+        
+        // Inventários separados por mundo
+        if (getConfig().getBoolean("inventarios.separar", true)) {
+            inventoryStore = new InventoryStore(this, new File(getDataFolder(), "inventarios"),
+                getConfig().getInt("inventarios.cache_max", 200));
+        }
+        
+        // Cache de acesso às eras
+        eraAccessCache = new EraAccessCache(this);
+        configurarAtualizacaoPermissoes();
+        
         // Inicializar LobbyManager
         lobbyManager = new LobbyManager(this);
         lobbyManager.inicializar();
+        
+        // Regras de proteção de cada mundo
+        compilarProtecao();
+        
+        // Proteção por regiões do WorldGuard (opcional)
+        configurarWorldGuard();
+        
+        // Placeholders (opcional)
+        configurarPlaceholders();
+        
+        // Exportador de métricas (opcional)
+        if (performanceMonitor.isAtivado()) {
+            metricsExporter = new MetricsExporter(this, performanceMonitor);
+            if (!metricsExporter.iniciar(getConfig().getConfigurationSection("metricas.exportador"))) {
+                metricsExporter = null;
+            }
+        }
+    }
+    
+    /**
+     * Compila o registro das eras a partir do config.yml e o publica
+     */
+    private void recarregarEras() {
+        EraRegistry novo = EraRegistry.compilar(getConfig().getConfigurationSection("eras"), getLogger());
+        eraRegistry = novo;
+        
+        getLogger().info(novo.getQuantidade() + " eras carregadas.");
+    }
+    
+    /**
+     * Abre o armazenamento da progressão dos jogadores
+     * Com core.auto_save as alterações são gravadas a cada core.save_intervalo segundos;
+     * sem ele, só quando o jogador sai e ao desligar
+     */
+    private void iniciarProgressao() {
+        long intervalo = getConfig().getBoolean("core.auto_save", true)
+            ? Math.max(1, getConfig().getLong("core.save_intervalo", 300))
+            : 0;
+        
+        progressionManager = new ProgressionManager(this,
+            new SqliteProgressionStorage(new File(getDataFolder(), "progressao.db")));
+        
+        try {
+            progressionManager.iniciar(intervalo);
+        } catch (IOException e) {
+            getLogger().severe("Erro ao abrir o armazenamento de progressão: " + e.getMessage());
+            progressionManager = null;
+        }
+    }
+    
+    /**
+     * Mantém as máscaras de acesso em dia com as permissões
+     * Usa os eventos do LuckPerms quando disponível; caso contrário, atualiza periodicamente
+     */
+    private void configurarAtualizacaoPermissoes() {
+        if (getServer().getPluginManager().isPluginEnabled("LuckPerms")) {
+            try {
+                luckPermsHook = new LuckPermsHook(this, eraAccessCache, protectionManager);
+                luckPermsHook.registrar();
+                getLogger().info("Integração com LuckPerms ativada.");
+                return;
+            } catch (Exception | LinkageError e) {
+                getLogger().warning("Falha ao integrar com LuckPerms: " + e.getMessage());
+                luckPermsHook = null;
+            }
+        }
+        
+        long intervalo = Math.max(1, getConfig().getLong("permissoes.intervalo_atualizacao", 30)) * 20L;
+        tarefaPermissoes = getServer().getScheduler().runTaskTimer(this, () -> {
+            eraAccessCache.atualizarTodos();
+            protectionManager.atualizarTodos();
+        }, intervalo, intervalo);
+    }
+    
+    /**
+     * Compila a política de proteção dos mundos do lobby e das eras
+     */
+    private void compilarProtecao() {
+        protectionManager.compilar(getConfig(), lobbyManager.getMembership().getMundos(), eraRegistry, getLogger());
+        getLogger().info("Regras de proteção carregadas para " + protectionManager.getPolitica().getQuantidadeMundos() + " mundos.");
+    }
+    
+    /**
+     * Liga as taxas de entrada pelo Vault, se ativadas e houver um plugin de economia
+     */
+    private void configurarEconomia() {
+        if (!getConfig().getBoolean("economia.ativada", false)) {
+            return;
+        }
+        
+        if (!getServer().getPluginManager().isPluginEnabled("Vault")) {
+            getLogger().warning("Economia ativada, mas o Vault não está presente. Taxas desativadas.");
+            return;
+        }
+        
+        try {
+            VaultEconomyProvider provedor = VaultEconomyProvider.criar();
+            if (provedor == null) {
+                getLogger().warning("Nenhum plugin de economia registrado no Vault. Taxas desativadas.");
+                return;
+            }
+            
+            economyService = new EconomyService(this, provedor);
+            economyService.iniciar(getConfig().getLong("economia.liquidacao_intervalo", 40),
+                getConfig().getInt("economia.lote_maximo", 200),
+                getConfig().getLong("economia.reconciliacao_intervalo", 60));
+            getLogger().info("Integração com Vault ativada (" + provedor.getNome() + ").");
+        } catch (Exception | LinkageError e) {
+            getLogger().warning("Falha ao integrar com Vault: " + e.getMessage());
+            economyService = null;
+        }
+    }
+    
+    /**
+     * Limita a proteção do lobby às regiões do WorldGuard, se ele estiver presente
+     */
+    private void configurarWorldGuard() {
+        if (!getServer().getPluginManager().isPluginEnabled("WorldGuard")) {
+            if (!getConfig().getStringList("lobby.protecao_regioes").isEmpty()) {
+                getLogger().warning("Regiões de proteção configuradas, mas o WorldGuard não está presente. Protegendo o lobby inteiro.");
+            }
+            return;
+        }
+        
+        try {
+            worldGuardHook = new WorldGuardHook(this);
+            aplicarRegioesProtecao();
+            lobbyManager.setRegionProtection(worldGuardHook);
+            getLogger().info("Integração com WorldGuard ativada.");
+        } catch (Exception | LinkageError e) {
+            getLogger().warning("Falha ao integrar com WorldGuard: " + e.getMessage());
+            worldGuardHook = null;
+        }
+    }
+    
+    private void aplicarRegioesProtecao() {
+        worldGuardHook.configurar(getConfig().getStringList("lobby.protecao_regioes"),
+            getConfig().getLong("lobby.protecao_cache_ttl", 30));
+    }
+    
+    /**
+     * Registra a expansão do PlaceholderAPI, se ele estiver presente
+     */
+    private void configurarPlaceholders() {
+        if (!getServer().getPluginManager().isPluginEnabled("PlaceholderAPI")) {
+            return;
+        }
+        
+        try {
+            placeholderCache = new PlaceholderCache(this);
+            placeholderCache.reconstruir();
+            placeholderExpansion = new ArteDaGuerraExpansion(this, placeholderCache);
+            placeholderExpansion.register();
+            getLogger().info("Integração com PlaceholderAPI ativada.");
+        } catch (Exception | LinkageError e) {
+            getLogger().warning("Falha ao integrar com PlaceholderAPI: " + e.getMessage());
+            placeholderCache = null;
+            placeholderExpansion = null;
+        }
     }
     
     /**
      * Finaliza todos os sistemas do plugin
      */
     private void finalizarSistemas() {
+        if (placeholderExpansion != null) {
+            placeholderExpansion.unregister();
+            placeholderExpansion = null;
+            placeholderCache = null;
+        }
+        
+        if (luckPermsHook != null) {
+            luckPermsHook.cancelar();
+            luckPermsHook = null;
+        }
+        
+        if (tarefaPermissoes != null) {
+            tarefaPermissoes.cancel();
+            tarefaPermissoes = null;
+        }
+        
+        protectionManager.limpar();
+        
         if (lobbyManager != null) {
+            lobbyManager.setRegionProtection(null);
             lobbyManager.finalizar();
         }
+        worldGuardHook = null;
+        
+        if (economyService != null) {
+            economyService.finalizar();
+            economyService = null;
+        }
+        
+        if (pregenManager != null) {
+            pregenManager.finalizar();
+            pregenManager = null;
+        }
+        
+        if (eraWorldManager != null) {
+            eraWorldManager.finalizar();
+            eraWorldManager = null;
+        }
+        
+        if (metricsExporter != null) {
+            metricsExporter.finalizar();
+            metricsExporter = null;
+        }
+        
+        performanceMonitor.finalizar();
+        
+        if (inventoryStore != null) {
+            inventoryStore.finalizar();
+            inventoryStore = null;
+        }
+        
+        if (progressionManager != null) {
+            progressionManager.finalizar();
+            progressionManager = null;
+        }
     }
     
     /**
@@ -88,8 +399,40 @@ public class ArteDaGuerraCore extends JavaPlugin {
      * Registra todos os eventos do plugin
      */
     private void registrarEventos() {
+        // Eventos de acesso às eras
+        getServer().getPluginManager().registerEvents(new EraAccessListener(eraAccessCache), this);
+        
+        // Eventos de progressão
+        if (progressionManager != null) {
+            getServer().getPluginManager().registerEvents(new ProgressionListener(this, progressionManager), this);
+        }
+        
+        // Eventos de economia
+        if (economyService != null) {
+            getServer().getPluginManager().registerEvents(new EconomyListener(economyService), this);
+        }
+        
+        // Eventos de inventário por mundo
+        if (inventoryStore != null) {
+            getServer().getPluginManager().registerEvents(new InventoryListener(this, inventoryStore), this);
+        }
+        
         // Eventos do lobby
+        getServer().getPluginManager().registerEvents(new LobbyMembershipListener(lobbyManager.getMembership()), this);
         getServer().getPluginManager().registerEvents(new LobbyListener(lobbyManager), this);
+        
+        // Eventos de proteção
+        getServer().getPluginManager().registerEvents(new ProtectionListener(protectionManager, lobbyManager), this);
+        
+        // Invalidação do cache de regiões
+        if (worldGuardHook != null) {
+            getServer().getPluginManager().registerEvents(worldGuardHook, this);
+        }
+        
+        // Eventos dos placeholders
+        if (placeholderCache != null) {
+            getServer().getPluginManager().registerEvents(placeholderCache, this);
+        }
     }
     
     /**
@@ -149,6 +492,18 @@ public class ArteDaGuerraCore extends JavaPlugin {
                     return true;
                 }
                 reloadConfig();
+                recarregarEras();
+                eraAccessCache.atualizarTodos();
+                if (lobbyManager != null) {
+                    lobbyManager.aoRecarregarEras();
+                    compilarProtecao();
+                }
+                if (placeholderCache != null) {
+                    placeholderCache.reconstruir();
+                }
+                if (worldGuardHook != null) {
+                    aplicarRegioesProtecao();
+                }
                 sender.sendMessage("§aConfiguração recarregada com sucesso!");
                 return true;
                 
@@ -165,17 +520,230 @@ public class ArteDaGuerraCore extends JavaPlugin {
                     sender.sendMessage("§cVocê não tem permissão para usar este comando!");
                     return true;
                 }
+                if (args.length > 1 && args[1].equalsIgnoreCase("perf")) {
+                    return executarComandoPerf(sender, args);
+                }
                 sender.sendMessage("§6=== Status do Sistema ===");
                 sender.sendMessage("§7Lobby Manager: §a" + (lobbyManager != null ? "Ativo" : "Inativo"));
                 sender.sendMessage("§7Jogadores Online: §e" + Bukkit.getOnlinePlayers().size());
+                if (eraWorldManager != null) {
+                    sender.sendMessage("§7Mundos de Eras Carregados: §e" + eraWorldManager.getQuantidadeCarregados()
+                        + "§7/§e" + eraRegistry.getQuantidade());
+                }
+                sender.sendMessage("§7Use §e/artedaguerra status perf [janela|reset] §7para ver as latências.");
                 return true;
                 
+            case "desbloquear":
+            case "bloquear":
+                return executarComandoProgressao(sender, subcomando, args);
+                
+            case "pregen":
+                return executarComandoPregen(sender, args);
+                
             default:
                 sender.sendMessage("§cSubcomando não reconhecido! Use /artedaguerra para ver os comandos disponíveis.");
                 return true;
         }
     }
     
+    /**
+     * Executa /artedaguerra status perf [janela|reset]
+     */
+    private boolean executarComandoPerf(CommandSender sender, String[] args) {
+        if (!performanceMonitor.isAtivado()) {
+            sender.sendMessage("§cMétricas desativadas (metricas.ativadas no config.yml).");
+            return true;
+        }
+        
+        String modo = args.length > 2 ? args[2].toLowerCase() : "";
+        
+        if (modo.equals("reset")) {
+            performanceMonitor.resetar();
+            sender.sendMessage("§aMétricas de desempenho zeradas!");
+            return true;
+        }
+        
+        boolean janela = modo.equals("janela");
+        if (janela) {
+            sender.sendMessage("§6=== Latências (última janela de " + performanceMonitor.getJanelaSegundos() + "s) ===");
+        } else {
+            sender.sendMessage("§6=== Latências (últimos " + performanceMonitor.getSegundosAcumulados() + "s) ===");
+        }
+        
+        boolean algum = false;
+        for (MetricType tipo : MetricType.values()) {
+            LatencyHistogram.Snapshot snapshot = janela
+                ? performanceMonitor.getUltimaJanela(tipo)
+                : performanceMonitor.getAcumulado(tipo);
+            
+            if (snapshot.getQuantidade() == 0) continue;
+            algum = true;
+            
+            sender.sendMessage("§e" + tipo.getDescricao() + "§7: n=" + snapshot.getQuantidade()
+                + " p50=" + formatarNanos(snapshot.getPercentil(0.50))
+                + " p95=" + formatarNanos(snapshot.getPercentil(0.95))
+                + " p99=" + formatarNanos(snapshot.getPercentil(0.99))
+                + " max=" + formatarNanos(snapshot.getMaximo())
+                + " total=" + formatarNanos(snapshot.getSoma()));
+        }
+        
+        if (!algum) {
+            sender.sendMessage("§7Nenhuma medição ainda.");
+        }
+        return true;
+    }
+    
+    private static String formatarNanos(long nanos) {
+        if (nanos < 1_000_000L) {
+            return (nanos / 1_000L) + "µs";
+        }
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+    
+    /**
+     * Executa /artedaguerra pregen <era> <raio> | status | parar <era>
+     */
+    private boolean executarComandoPregen(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("artedaguerra.admin")) {
+            sender.sendMessage("§cVocê não tem permissão para usar este comando!");
+            return true;
+        }
+        
+        if (args.length == 1 || args[1].equalsIgnoreCase("status")) {
+            sender.sendMessage("§6=== Pré-geração de Chunks ===");
+            if (pregenManager.getTrabalhos().isEmpty()) {
+                sender.sendMessage("§7Nenhuma pré-geração em andamento.");
+            }
+            for (PregenJob trabalho : pregenManager.getTrabalhos()) {
+                sender.sendMessage("§eEra " + trabalho.getEra() + " §7(" + trabalho.getMundoNome() + "): §e"
+                    + PregenManager.descrever(trabalho) + " §7- " + pregenManager.getEstado(trabalho).getDescricao());
+            }
+            return true;
+        }
+        
+        boolean parar = args[1].equalsIgnoreCase("parar");
+        if (args.length != 3) {
+            sender.sendMessage("§cUso correto: /artedaguerra pregen <era> <raio em blocos> | status | parar <era>");
+            return true;
+        }
+        
+        int era;
+        int raio = 0;
+        try {
+            era = Integer.parseInt(parar ? args[2] : args[1]);
+            if (!parar) {
+                raio = Integer.parseInt(args[2]);
+            }
+        } catch (NumberFormatException e) {
+            sender.sendMessage("§cNúmero inválido!");
+            return true;
+        }
+        
+        if (parar) {
+            if (pregenManager.parar(era)) {
+                sender.sendMessage("§aPré-geração da era " + era + " cancelada. O progresso foi descartado.");
+            } else {
+                sender.sendMessage("§cNão há pré-geração em andamento para a era " + era + "!");
+            }
+            return true;
+        }
+        
+        if (!eraRegistry.isValida(era)) {
+            sender.sendMessage("§cEra inválida! Use números de 1 a " + eraRegistry.getQuantidade() + ".");
+            return true;
+        }
+        
+        if (raio <= 0) {
+            sender.sendMessage("§cO raio deve ser maior que zero!");
+            return true;
+        }
+        
+        if (pregenManager.getTrabalho(era) != null) {
+            sender.sendMessage("§cJá existe uma pré-geração para a era " + era + "! Use /artedaguerra pregen parar " + era + ".");
+            return true;
+        }
+        
+        EraDefinition definicao = eraRegistry.getEra(era);
+        if (definicao.getMundoNome() == null) {
+            sender.sendMessage("§cA era " + era + " não tem mundo configurado!");
+            return true;
+        }
+        
+        int raioBlocos = raio;
+        Consumer<World> iniciar = world -> {
+            if (world == null) {
+                sender.sendMessage("§cMundo da era '" + definicao.getMundoNome() + "' não encontrado!");
+                return;
+            }
+            
+            PregenJob trabalho = pregenManager != null ? pregenManager.adicionar(definicao, world, raioBlocos) : null;
+            if (trabalho == null) {
+                sender.sendMessage("§cNão foi possível iniciar a pré-geração da era " + era + "!");
+                return;
+            }
+            sender.sendMessage("§aPré-geração da era " + era + " agendada: §e" + trabalho.getTotal()
+                + " chunks §7(raio de " + raioBlocos + " blocos ao redor do spawn).");
+            sender.sendMessage("§7Acompanhe com §e/artedaguerra pregen status§7.");
+        };
+        
+        if (eraWorldManager != null) {
+            eraWorldManager.solicitar(definicao, iniciar);
+        } else {
+            iniciar.accept(definicao.getMundo());
+        }
+        return true;
+    }
+    
+    /**
+     * Executa /artedaguerra desbloquear|bloquear <jogador> <era>
+     */
+    private boolean executarComandoProgressao(CommandSender sender, String subcomando, String[] args) {
+        if (!sender.hasPermission("artedaguerra.admin")) {
+            sender.sendMessage("§cVocê não tem permissão para usar este comando!");
+            return true;
+        }
+        
+        if (progressionManager == null) {
+            sender.sendMessage("§cArmazenamento de progressão indisponível!");
+            return true;
+        }
+        
+        if (args.length != 3) {
+            sender.sendMessage("§cUso correto: /artedaguerra " + subcomando + " <jogador> <era>");
+            return true;
+        }
+        
+        Player alvo = Bukkit.getPlayerExact(args[1]);
+        if (alvo == null) {
+            sender.sendMessage("§cJogador '" + args[1] + "' não está online!");
+            return true;
+        }
+        
+        int era;
+        try {
+            era = Integer.parseInt(args[2]);
+        } catch (NumberFormatException e) {
+            sender.sendMessage("§cNúmero de era inválido!");
+            return true;
+        }
+        
+        if (!eraRegistry.isValida(era)) {
+            sender.sendMessage("§cNúmero de era inválido! Use números de 1 a " + eraRegistry.getQuantidade() + ".");
+            return true;
+        }
+        
+        boolean alterado = subcomando.equals("desbloquear")
+            ? progressionManager.desbloquear(alvo, era)
+            : progressionManager.bloquear(alvo, era);
+        
+        if (alterado) {
+            sender.sendMessage("§aEra " + era + (subcomando.equals("desbloquear") ? " liberada para " : " bloqueada para ") + alvo.getName() + "!");
+        } else {
+            sender.sendMessage("§eNada mudou: a era já estava nesse estado ou o progresso de " + alvo.getName() + " ainda está carregando.");
+        }
+        return true;
+    }
+    
     /**
      * Obtém a instância do plugin
      */
@@ -183,6 +751,62 @@ public class ArteDaGuerraCore extends JavaPlugin {
         return instance;
     }
     
+    /**
+     * Obtém o registro das eras atualmente publicado
+     */
+    public EraRegistry getEraRegistry() {
+        return eraRegistry;
+    }
+    
+    /**
+     * Obtém o cache de acesso às eras
+     */
+    public EraAccessCache getEraAccessCache() {
+        return eraAccessCache;
+    }
+    
+    /**
+     * Obtém o gerenciador de progressão (null se o armazenamento não pôde ser aberto)
+     */
+    public ProgressionManager getProgressionManager() {
+        return progressionManager;
+    }
+    
+    /**
+     * Obtém o serviço de taxas (null se a economia estiver desativada)
+     */
+    public EconomyService getEconomyService() {
+        return economyService;
+    }
+    
+    /**
+     * Obtém o gerenciador dos mundos das eras (null se os mundos não forem gerenciados)
+     */
+    public EraWorldManager getEraWorldManager() {
+        return eraWorldManager;
+    }
+
+    /**
+     * Obtém o gerenciador da pré-geração de chunks
+     */
+    public PregenManager getPregenManager() {
+        return pregenManager;
+    }
+
+    /**
+     * Obtém o monitor de latências
+     */
+    public PerformanceMonitor getPerformanceMonitor() {
+        return performanceMonitor;
+    }
+
+    /**
+     * Obtém o gerenciador das regras de proteção dos mundos
+     */
+    public ProtectionManager getProtectionManager() {
+        return protectionManager;
+    }
+
     /**
      * Obtém o gerenciador do lobby
      */
@@ -0,0 +1,108 @@
+package br.com.artedaguerra.cooldown;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Armazena cooldowns por jogador sem nenhuma tarefa agendada
+ * Cada jogador tem um único array com o prazo (em System.nanoTime) de cada
+ * tipo de cooldown. Prazos vencidos não são removidos: simplesmente deixam
+ * de valer na próxima consulta. O array do jogador é descartado ao sair
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class CooldownManager {
+
+    private static final int TIPOS = CooldownType.values().length;
+
+    private final Map<UUID, long[]> prazos;
+    private final long[] duracoesNanos;
+
+    // Prazos são guardados relativos a esta origem, então 0 significa "sem cooldown"
+    private final long origem;
+
+    public CooldownManager() {
+        this.prazos = new ConcurrentHashMap<>();
+        this.duracoesNanos = new long[TIPOS];
+        this.origem = System.nanoTime() - 1;
+    }
+
+    /**
+     * Define a duração de um tipo de cooldown
+     */
+    public void configurar(CooldownType tipo, long duracaoMs) {
+        duracoesNanos[tipo.ordinal()] = Math.max(0L, duracaoMs) * 1_000_000L;
+    }
+
+    /**
+     * Obtém o tempo restante de um cooldown, em nanossegundos (0 se não estiver ativo)
+     */
+    public long getRestanteNanos(UUID playerId, CooldownType tipo) {
+        long[] prazosJogador = prazos.get(playerId);
+        if (prazosJogador == null) {
+            return 0L;
+        }
+
+        long prazo = prazosJogador[tipo.ordinal()];
+        if (prazo == 0L) {
+            return 0L;
+        }
+
+        long restante = prazo - agora();
+        return restante > 0 ? restante : 0L;
+    }
+
+    /**
+     * Verifica se o jogador está em cooldown
+     */
+    public boolean emCooldown(UUID playerId, CooldownType tipo) {
+        return getRestanteNanos(playerId, tipo) > 0;
+    }
+
+    /**
+     * Inicia o cooldown do tipo para o jogador
+     */
+    public void aplicar(UUID playerId, CooldownType tipo) {
+        long duracao = duracoesNanos[tipo.ordinal()];
+        if (duracao == 0L) {
+            return;
+        }
+
+        long[] prazosJogador = prazos.computeIfAbsent(playerId, id -> new long[TIPOS]);
+        prazosJogador[tipo.ordinal()] = agora() + duracao;
+    }
+
+    /**
+     * Verifica e, se livre, aplica o cooldown numa única chamada
+     *
+     * @return verdadeiro se o jogador estava livre (e o cooldown foi aplicado)
+     */
+    public boolean tentarAplicar(UUID playerId, CooldownType tipo) {
+        if (emCooldown(playerId, tipo)) {
+            return false;
+        }
+
+        aplicar(playerId, tipo);
+        return true;
+    }
+
+    /**
+     * Remove todos os cooldowns de um jogador (ao sair do servidor)
+     */
+    public void remover(UUID playerId) {
+        prazos.remove(playerId);
+    }
+
+    /**
+     * Remove todos os cooldowns
+     */
+    public void limpar() {
+        prazos.clear();
+    }
+
+    private long agora() {
+        return System.nanoTime() - origem;
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.artedaguerra.cooldown;
+
+/**
+ * Tipos de cooldown controlados pelo plugin
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public enum CooldownType {
+
+    /** Teletransporte para o lobby */
+    LOBBY,
+
+    /** Teletransporte para uma era */
+    ERA,
+
+    /** Abertura dos menus pelos itens de navegação */
+    GUI
+}
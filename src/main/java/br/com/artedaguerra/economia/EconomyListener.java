@@ -0,0 +1,35 @@
+package br.com.artedaguerra.economia;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Mantém o saldo em cache dos jogadores online
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class EconomyListener implements Listener {
+
+    private final EconomyService economia;
+
+    public EconomyListener(EconomyService economia) {
+        this.economia = economia;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        economia.carregar(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Reservas de teletransportes que não vão concluir são estornadas
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        economia.descarregar(event.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.artedaguerra.economia;
+
+import org.bukkit.OfflinePlayer;
+
+/**
+ * Provedor de economia usado pelo EconomyService
+ * As chamadas podem bloquear (banco de dados do plugin de economia) e
+ * são feitas sempre na thread de liquidação, nunca na thread principal
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public interface EconomyProvider {
+
+    /**
+     * Consulta o saldo atual do jogador
+     */
+    double getSaldo(OfflinePlayer player);
+
+    /**
+     * Retira um valor do saldo do jogador
+     */
+    Resultado sacar(OfflinePlayer player, double valor);
+
+    /**
+     * Resultado de uma retirada
+     */
+    final class Resultado {
+
+        private final boolean sucesso;
+        private final double saldo;
+        private final String erro;
+
+        public Resultado(boolean sucesso, double saldo, String erro) {
+            this.sucesso = sucesso;
+            this.saldo = saldo;
+            this.erro = erro;
+        }
+
+        public boolean isSucesso() {
+            return sucesso;
+        }
+
+        /**
+         * Saldo depois da operação, segundo o provedor
+         */
+        public double getSaldo() {
+            return saldo;
+        }
+
+        public String getErro() {
+            return erro;
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package br.com.artedaguerra.economia;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cobranças de taxas sem esperar pelo plugin de economia
+ * O teletransporte confere um saldo em cache e reserva o valor em um
+ * livro-caixa em memória. Quando o teletransporte conclui, o lançamento é
+ * confirmado e entra na fila de liquidação; se falhar, é estornado sem
+ * nunca chegar ao provedor. A cada liquidacao_intervalo os confirmados são
+ * agrupados por jogador e retirados do provedor em uma única thread, que
+ * também traz o saldo real de volta para o cache (reconciliação)
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class EconomyService {
+
+    private static final int MAX_TENTATIVAS = 3;
+
+    private final Plugin plugin;
+    private final EconomyProvider provedor;
+    private final Map<UUID, Saldo> saldos;
+    private final Queue<LedgerEntry> aLiquidar;
+    private final AtomicLong proximoId;
+    private final ExecutorService liquidador;
+    private BukkitTask tarefaLiquidacao;
+    private BukkitTask tarefaReconciliacao;
+    private int loteMaximo;
+
+    public EconomyService(Plugin plugin, EconomyProvider provedor) {
+        this.plugin = plugin;
+        this.provedor = provedor;
+        this.saldos = new ConcurrentHashMap<>();
+        this.aLiquidar = new ConcurrentLinkedQueue<>();
+        this.proximoId = new AtomicLong();
+        this.liquidador = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "ArteDaGuerra-Economia");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Carrega os saldos de quem já está online e agenda a liquidação e a reconciliação
+     *
+     * @param intervaloTicks ticks entre lotes de liquidação
+     * @param reconciliacaoSegundos segundos entre atualizações dos saldos em cache (0 desativa)
+     */
+    public void iniciar(long intervaloTicks, int loteMaximo, long reconciliacaoSegundos) {
+        this.loteMaximo = Math.max(1, loteMaximo);
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            carregar(player.getUniqueId());
+        }
+
+        long intervalo = Math.max(1, intervaloTicks);
+        tarefaLiquidacao = Bukkit.getScheduler().runTaskTimer(plugin, this::liquidar, intervalo, intervalo);
+
+        if (reconciliacaoSegundos > 0) {
+            long reconciliacao = reconciliacaoSegundos * 20L;
+            tarefaReconciliacao = Bukkit.getScheduler().runTaskTimer(plugin, this::reconciliar, reconciliacao, reconciliacao);
+        }
+    }
+
+    /**
+     * Estorna as reservas em aberto, liquida o que já foi confirmado e encerra a thread
+     * Chamado no onDisable, quando bloquear a thread principal é aceitável
+     */
+    public void finalizar() {
+        if (tarefaLiquidacao != null) {
+            tarefaLiquidacao.cancel();
+            tarefaLiquidacao = null;
+        }
+        if (tarefaReconciliacao != null) {
+            tarefaReconciliacao.cancel();
+            tarefaReconciliacao = null;
+        }
+
+        // Teletransportes ainda em andamento não vão concluir
+        for (UUID playerId : saldos.keySet()) {
+            estornarReservas(playerId);
+        }
+
+        while (!aLiquidar.isEmpty()) {
+            liquidar();
+        }
+
+        liquidador.shutdown();
+        try {
+            if (!liquidador.awaitTermination(10, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Liquidação de cobranças ainda em andamento ao desligar.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!aLiquidar.isEmpty()) {
+            plugin.getLogger().warning(aLiquidar.size() + " cobranças não foram liquidadas ao desligar.");
+        }
+        saldos.clear();
+    }
+
+    /**
+     * Busca o saldo do jogador no provedor, fora da thread principal (na entrada e quando falta no cache)
+     */
+    public void carregar(UUID playerId) {
+        Saldo saldo = saldos.computeIfAbsent(playerId, id -> new Saldo());
+        saldo.setOnline(true);
+
+        if (saldo.iniciarCarregamento()) {
+            liquidador.execute(() -> atualizarSaldo(playerId, saldo));
+        }
+    }
+
+    /**
+     * Marca o jogador como offline; o saldo em cache é descartado quando não houver mais nada pendente
+     */
+    public void descarregar(UUID playerId) {
+        estornarReservas(playerId);
+
+        Saldo saldo = saldos.get(playerId);
+        if (saldo != null) {
+            saldo.setOnline(false);
+            descartarSeOcioso(playerId, saldo);
+        }
+    }
+
+    /**
+     * Confere o saldo em cache e reserva o valor (thread principal)
+     * Não consulta o provedor; se o saldo ainda não foi carregado, pede que o jogador tente de novo
+     *
+     * @return o lançamento reservado, ou null se não for possível cobrar agora
+     */
+    public LedgerEntry reservar(Player player, double valor, String motivo) {
+        if (valor <= 0) {
+            return LedgerEntry.ISENTO;
+        }
+
+        UUID playerId = player.getUniqueId();
+        Saldo saldo = saldos.get(playerId);
+
+        if (saldo == null || !saldo.isCarregado()) {
+            carregar(playerId);
+            player.sendMessage("§eSeu saldo ainda está sendo carregado. Tente novamente em instantes.");
+            return null;
+        }
+
+        LedgerEntry lancamento = new LedgerEntry(proximoId.incrementAndGet(), playerId, valor, motivo);
+        if (!saldo.reservar(lancamento)) {
+            player.sendMessage("§cSaldo insuficiente! Custo: §e" + formatar(valor)
+                + "§c, disponível: §e" + formatar(saldo.getDisponivel()) + "§c.");
+            return null;
+        }
+
+        return lancamento;
+    }
+
+    /**
+     * Confirma a cobrança depois que o teletransporte concluiu
+     */
+    public void confirmar(LedgerEntry lancamento) {
+        if (lancamento.isIsento()) return;
+
+        if (lancamento.mudarEstado(LedgerEntry.Estado.RESERVADO, LedgerEntry.Estado.CONFIRMADO)) {
+            aLiquidar.add(lancamento);
+        }
+    }
+
+    /**
+     * Desfaz a reserva (teletransporte recusado ou que falhou); nada chega ao provedor
+     */
+    public void estornar(LedgerEntry lancamento) {
+        if (lancamento.isIsento()) return;
+
+        if (lancamento.mudarEstado(LedgerEntry.Estado.RESERVADO, LedgerEntry.Estado.ESTORNADO)) {
+            Saldo saldo = saldos.get(lancamento.getPlayerId());
+            if (saldo != null) {
+                saldo.liberar(lancamento);
+            }
+        }
+    }
+
+    /**
+     * Saldo em cache menos o que já está reservado ou aguardando liquidação
+     */
+    public double getDisponivel(UUID playerId) {
+        Saldo saldo = saldos.get(playerId);
+        return saldo != null ? saldo.getDisponivel() : 0;
+    }
+
+    /**
+     * Quantidade de cobranças confirmadas aguardando liquidação
+     */
+    public int getPendentes() {
+        return aLiquidar.size();
+    }
+
+    public static String formatar(double valor) {
+        return String.format("%.2f", valor);
+    }
+
+    /**
+     * Envia um lote de cobranças confirmadas para a thread de liquidação (thread principal)
+     */
+    private void liquidar() {
+        if (aLiquidar.isEmpty()) return;
+
+        // Agrupa por jogador: uma retirada por jogador por lote
+        Map<UUID, List<LedgerEntry>> lote = new LinkedHashMap<>();
+        LedgerEntry lancamento;
+        int quantidade = 0;
+
+        while (quantidade < loteMaximo && (lancamento = aLiquidar.poll()) != null) {
+            lote.computeIfAbsent(lancamento.getPlayerId(), id -> new ArrayList<>()).add(lancamento);
+            quantidade++;
+        }
+
+        liquidador.execute(() -> {
+            for (Map.Entry<UUID, List<LedgerEntry>> entrada : lote.entrySet()) {
+                liquidarJogador(entrada.getKey(), entrada.getValue());
+            }
+        });
+    }
+
+    /**
+     * Retira do provedor o total confirmado de um jogador (thread de liquidação)
+     */
+    private void liquidarJogador(UUID playerId, List<LedgerEntry> lancamentos) {
+        Saldo saldo = saldos.computeIfAbsent(playerId, id -> new Saldo());
+        OfflinePlayer jogador = Bukkit.getOfflinePlayer(playerId);
+
+        double total = 0;
+        for (LedgerEntry lancamento : lancamentos) {
+            total += lancamento.getValor();
+        }
+
+        EconomyProvider.Resultado resultado;
+        try {
+            resultado = provedor.sacar(jogador, total);
+        } catch (RuntimeException e) {
+            // Sem resposta do provedor: tenta de novo no próximo lote
+            List<LedgerEntry> desistidos = new ArrayList<>();
+            for (LedgerEntry lancamento : lancamentos) {
+                if (lancamento.registrarTentativa() < MAX_TENTATIVAS) {
+                    aLiquidar.add(lancamento);
+                } else {
+                    desistidos.add(lancamento);
+                }
+            }
+
+            plugin.getLogger().warning("Erro ao cobrar " + formatar(total) + " de " + playerId + ": " + e.getMessage());
+            if (!desistidos.isEmpty()) {
+                falhar(playerId, saldo, desistidos, "provedor indisponível");
+            }
+            return;
+        }
+
+        if (!resultado.isSucesso()) {
+            falhar(playerId, saldo, lancamentos, resultado.getErro());
+            return;
+        }
+
+        for (LedgerEntry lancamento : lancamentos) {
+            lancamento.mudarEstado(LedgerEntry.Estado.CONFIRMADO, LedgerEntry.Estado.LIQUIDADO);
+        }
+        saldo.liquidar(lancamentos, resultado.getSaldo());
+        descartarSeOcioso(playerId, saldo);
+    }
+
+    /**
+     * O jogador já viajou, mas a retirada foi recusada: devolve a reserva ao cache,
+     * relê o saldo real e registra o ocorrido para os administradores
+     */
+    private void falhar(UUID playerId, Saldo saldo, List<LedgerEntry> lancamentos, String erro) {
+        StringBuilder ids = new StringBuilder();
+        double total = 0;
+
+        for (LedgerEntry lancamento : lancamentos) {
+            lancamento.mudarEstado(LedgerEntry.Estado.CONFIRMADO, LedgerEntry.Estado.FALHOU);
+            saldo.liberar(lancamento);
+            total += lancamento.getValor();
+            ids.append(ids.length() == 0 ? "#" : ", #").append(lancamento.getId());
+        }
+
+        plugin.getLogger().warning("Cobrança de " + formatar(total) + " recusada para " + playerId
+            + " (" + erro + "); lançamentos " + ids + " não foram cobrados.");
+
+        atualizarSaldo(playerId, saldo);
+        descartarSeOcioso(playerId, saldo);
+    }
+
+    /**
+     * Agenda a releitura dos saldos de quem está online (thread principal)
+     */
+    private void reconciliar() {
+        for (Map.Entry<UUID, Saldo> entrada : saldos.entrySet()) {
+            UUID playerId = entrada.getKey();
+            Saldo saldo = entrada.getValue();
+
+            if (saldo.isOnline()) {
+                liquidador.execute(() -> atualizarSaldo(playerId, saldo));
+            }
+        }
+    }
+
+    /**
+     * Lê o saldo no provedor (thread de liquidação); falhas mantêm o valor anterior
+     */
+    private void atualizarSaldo(UUID playerId, Saldo saldo) {
+        try {
+            saldo.definirConfirmado(provedor.getSaldo(Bukkit.getOfflinePlayer(playerId)));
+        } catch (RuntimeException e) {
+            saldo.cancelarCarregamento();
+            plugin.getLogger().warning("Erro ao consultar o saldo de " + playerId + ": " + e.getMessage());
+        }
+    }
+
+    private void estornarReservas(UUID playerId) {
+        Saldo saldo = saldos.get(playerId);
+        if (saldo == null) return;
+
+        for (LedgerEntry lancamento : saldo.getReservados()) {
+            estornar(lancamento);
+        }
+    }
+
+    private void descartarSeOcioso(UUID playerId, Saldo saldo) {
+        if (!saldo.isOnline() && saldo.isOcioso()) {
+            saldos.remove(playerId, saldo);
+        }
+    }
+
+    /**
+     * Saldo em cache de um jogador
+     * 'confirmado' é o último valor conhecido no provedor; 'comprometido' soma
+     * os lançamentos reservados e os confirmados ainda não liquidados
+     */
+    private static final class Saldo {
+
+        private final List<LedgerEntry> abertos = new ArrayList<>();
+        private double confirmado;
+        private double comprometido;
+        private boolean carregado;
+        private boolean carregando;
+        private volatile boolean online;
+
+        synchronized boolean iniciarCarregamento() {
+            if (carregando) {
+                return false;
+            }
+            carregando = true;
+            return true;
+        }
+
+        synchronized void cancelarCarregamento() {
+            carregando = false;
+        }
+
+        synchronized void definirConfirmado(double valor) {
+            confirmado = valor;
+            carregado = true;
+            carregando = false;
+        }
+
+        synchronized boolean isCarregado() {
+            return carregado;
+        }
+
+        synchronized double getDisponivel() {
+            return confirmado - comprometido;
+        }
+
+        synchronized boolean reservar(LedgerEntry lancamento) {
+            if (confirmado - comprometido < lancamento.getValor()) {
+                return false;
+            }
+            comprometido += lancamento.getValor();
+            abertos.add(lancamento);
+            return true;
+        }
+
+        synchronized void liberar(LedgerEntry lancamento) {
+            if (abertos.remove(lancamento)) {
+                comprometido = Math.max(0, comprometido - lancamento.getValor());
+            }
+        }
+
+        /**
+         * Tira os lançamentos liquidados do comprometido e adota o saldo informado pelo provedor
+         */
+        synchronized void liquidar(List<LedgerEntry> lancamentos, double saldoProvedor) {
+            for (LedgerEntry lancamento : lancamentos) {
+                if (abertos.remove(lancamento)) {
+                    comprometido = Math.max(0, comprometido - lancamento.getValor());
+                }
+            }
+            confirmado = saldoProvedor;
+            carregado = true;
+        }
+
+        synchronized List<LedgerEntry> getReservados() {
+            List<LedgerEntry> reservados = new ArrayList<>();
+            for (LedgerEntry lancamento : abertos) {
+                if (lancamento.getEstado() == LedgerEntry.Estado.RESERVADO) {
+                    reservados.add(lancamento);
+                }
+            }
+            return reservados;
+        }
+
+        synchronized boolean isOcioso() {
+            return abertos.isEmpty() && !carregando;
+        }
+
+        boolean isOnline() {
+            return online;
+        }
+
+        void setOnline(boolean online) {
+            this.online = online;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.artedaguerra.economia;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lançamento do livro-caixa em memória
+ * Nasce RESERVADO (valor separado do saldo em cache), vira CONFIRMADO quando
+ * o teletransporte conclui e LIQUIDADO quando o provedor aceita a retirada.
+ * ESTORNADO e FALHOU devolvem o valor reservado ao saldo em cache
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class LedgerEntry {
+
+    /** Lançamento vazio, usado quando não há nada a cobrar */
+    public static final LedgerEntry ISENTO = new LedgerEntry(0, null, 0, "isento");
+
+    public enum Estado {
+        RESERVADO,
+        CONFIRMADO,
+        LIQUIDADO,
+        ESTORNADO,
+        FALHOU
+    }
+
+    private final long id;
+    private final UUID playerId;
+    private final double valor;
+    private final String motivo;
+    private final AtomicReference<Estado> estado;
+    private int tentativas;
+
+    LedgerEntry(long id, UUID playerId, double valor, String motivo) {
+        this.id = id;
+        this.playerId = playerId;
+        this.valor = valor;
+        this.motivo = motivo;
+        this.estado = new AtomicReference<>(Estado.RESERVADO);
+    }
+
+    /**
+     * Muda o estado somente se o atual for o esperado
+     */
+    boolean mudarEstado(Estado esperado, Estado novo) {
+        return estado.compareAndSet(esperado, novo);
+    }
+
+    /**
+     * Conta uma tentativa de liquidação (só usado pela thread de liquidação)
+     */
+    int registrarTentativa() {
+        return ++tentativas;
+    }
+
+    public boolean isIsento() {
+        return this == ISENTO;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public double getValor() {
+        return valor;
+    }
+
+    public String getMotivo() {
+        return motivo;
+    }
+
+    public Estado getEstado() {
+        return estado.get();
+    }
+}
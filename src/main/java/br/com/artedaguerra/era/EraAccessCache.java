@@ -0,0 +1,117 @@
+package br.com.artedaguerra.era;
+
+import br.com.artedaguerra.ArteDaGuerraCore;
+import br.com.artedaguerra.progressao.ProgressionManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache da máscara de acesso às eras de cada jogador
+ * O bit N-1 ligado indica acesso à era N (permissão + era desbloqueada para
+ * todos ou liberada na progressão do jogador).
+ * A máscara é calculada na entrada e recalculada quando as permissões mudam
+ * (eventos do LuckPerms, troca de mundo, atualização periódica ou reload),
+ * então GUI, comandos e proximidade consultam só um inteiro
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class EraAccessCache {
+
+    /** Máximo de eras representáveis na máscara */
+    public static final int MAX_ERAS = 31;
+
+    private final ArteDaGuerraCore plugin;
+    private final Map<UUID, Integer> mascaras;
+
+    public EraAccessCache(ArteDaGuerraCore plugin) {
+        this.plugin = plugin;
+        this.mascaras = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Obtém a máscara de acesso do jogador, calculando-a se ainda não existir
+     */
+    public int getMascara(Player player) {
+        Integer mascara = mascaras.get(player.getUniqueId());
+        if (mascara != null) {
+            return mascara;
+        }
+        return atualizar(player);
+    }
+
+    /**
+     * Obtém a máscara já calculada, sem consultar permissões (0 se ainda não existir)
+     * Pode ser chamado de qualquer thread
+     */
+    public int getMascaraEmCache(UUID playerId) {
+        Integer mascara = mascaras.get(playerId);
+        return mascara != null ? mascara : 0;
+    }
+
+    /**
+     * Verifica se o jogador tem acesso a uma era
+     */
+    public boolean temAcesso(Player player, int era) {
+        if (era < 1 || era > MAX_ERAS) {
+            return false;
+        }
+        return (getMascara(player) & (1 << (era - 1))) != 0;
+    }
+
+    /**
+     * Recalcula e guarda a máscara de acesso do jogador
+     */
+    public int atualizar(Player player) {
+        int mascara = calcular(player, plugin.getEraRegistry(), getErasDesbloqueadas(player));
+        mascaras.put(player.getUniqueId(), mascara);
+        return mascara;
+    }
+
+    /**
+     * Recalcula a máscara de todos os jogadores online
+     */
+    public void atualizarTodos() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            atualizar(player);
+        }
+    }
+
+    /**
+     * Descarta a máscara do jogador (ao sair do servidor)
+     */
+    public void remover(UUID playerId) {
+        mascaras.remove(playerId);
+    }
+
+    public void limpar() {
+        mascaras.clear();
+    }
+
+    private int getErasDesbloqueadas(Player player) {
+        ProgressionManager progressao = plugin.getProgressionManager();
+        return progressao != null ? progressao.getErasDesbloqueadas(player.getUniqueId()) : 0;
+    }
+
+    /**
+     * Calcula a máscara a partir das permissões, do estado das eras e da progressão do jogador
+     */
+    private static int calcular(Player player, EraRegistry registry, int erasDesbloqueadas) {
+        int quantidade = Math.min(registry.getQuantidade(), MAX_ERAS);
+        int mascara = 0;
+
+        for (int era = 1; era <= quantidade; era++) {
+            EraDefinition definicao = registry.getEra(era);
+            boolean desbloqueada = definicao.isDesbloqueada() || (erasDesbloqueadas & (1 << (era - 1))) != 0;
+            if (desbloqueada && player.hasPermission(definicao.getPermissao())) {
+                mascara |= 1 << (era - 1);
+            }
+        }
+
+        return mascara;
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.artedaguerra.era;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Mantém o cache de acesso às eras em dia com a entrada, saída
+ * e troca de mundo dos jogadores (permissões podem depender do mundo)
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class EraAccessListener implements Listener {
+
+    private final EraAccessCache accessCache;
+
+    public EraAccessListener(EraAccessCache accessCache) {
+        this.accessCache = accessCache;
+    }
+
+    /**
+     * Calcula a máscara antes dos demais listeners usarem o jogador
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        accessCache.atualizar(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        accessCache.atualizar(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        accessCache.remover(event.getPlayer().getUniqueId());
+    }
+}
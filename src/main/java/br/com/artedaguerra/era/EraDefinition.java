@@ -0,0 +1,130 @@
+package br.com.artedaguerra.era;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+/**
+ * Definição imutável de uma era, compilada a partir do config.yml
+ * Além dos dados brutos, guarda as mensagens já montadas para que
+ * os caminhos frequentes (proximidade, GUI, comandos) não concatenem strings
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class EraDefinition {
+
+    private final int numero;
+    private final String nome;
+    private final String periodo;
+    private final boolean desbloqueada;
+    private final String mundoNome;
+    private final Material materialPlataforma;
+    private final Material materialIcone;
+    private final double taxa;
+    private final String permissao;
+
+    // Textos pré-montados
+    private final String titulo;
+    private final String infoProximidadeLiberada;
+    private final String infoProximidadeBloqueada;
+    private final String linhaListagemLiberada;
+    private final String linhaListagemBloqueada;
+    private final String mensagemBoasVindas;
+
+    public EraDefinition(int numero, String nome, String periodo, boolean desbloqueada,
+                         String mundoNome,
+                         Material materialPlataforma, Material materialIcone, double taxa) {
+        this.numero = numero;
+        this.nome = nome;
+        this.periodo = periodo;
+        this.desbloqueada = desbloqueada;
+        this.mundoNome = mundoNome;
+        this.materialPlataforma = materialPlataforma;
+        this.materialIcone = materialIcone;
+        this.taxa = Math.max(0, taxa);
+        this.permissao = "artedaguerra.era." + numero;
+
+        this.titulo = "Era " + numero + ": " + nome;
+        String info = "§6" + titulo + " §7(" + periodo + ") ";
+        this.infoProximidadeLiberada = info + "§a[Clique para entrar]";
+        this.infoProximidadeBloqueada = info + "§c[Bloqueada]";
+        String linha = " §7Era " + numero + ": §e" + nome + " §7(" + periodo + ")";
+        this.linhaListagemLiberada = "§a✓" + linha;
+        this.linhaListagemBloqueada = "§c✗" + linha;
+        this.mensagemBoasVindas = "§aBem-vindo à " + titulo + "!";
+    }
+
+    public int getNumero() {
+        return numero;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getPeriodo() {
+        return periodo;
+    }
+
+    public boolean isDesbloqueada() {
+        return desbloqueada;
+    }
+
+    public String getMundoNome() {
+        return mundoNome;
+    }
+
+    /**
+     * Obtém o mundo da era, se estiver carregado
+     * É resolvido pelo nome a cada chamada: o mundo pode ser descarregado
+     * quando fica ocioso, e guardar a referência o manteria na memória
+     */
+    public World getMundo() {
+        return mundoNome != null ? Bukkit.getWorld(mundoNome) : null;
+    }
+
+    public Material getMaterialPlataforma() {
+        return materialPlataforma;
+    }
+
+    public Material getMaterialIcone() {
+        return materialIcone;
+    }
+
+    /**
+     * Taxa de entrada cobrada pelo Vault (0 = gratuita)
+     */
+    public double getTaxa() {
+        return taxa;
+    }
+
+    public String getPermissao() {
+        return permissao;
+    }
+
+    /**
+     * Título no formato "Era N: Nome"
+     */
+    public String getTitulo() {
+        return titulo;
+    }
+
+    /**
+     * Texto da action bar ao se aproximar da plataforma da era
+     */
+    public String getInfoProximidade(boolean temAcesso) {
+        return temAcesso ? infoProximidadeLiberada : infoProximidadeBloqueada;
+    }
+
+    /**
+     * Linha exibida no comando /eras
+     */
+    public String getLinhaListagem(boolean temAcesso) {
+        return temAcesso ? linhaListagemLiberada : linhaListagemBloqueada;
+    }
+
+    public String getMensagemBoasVindas() {
+        return mensagemBoasVindas;
+    }
+}
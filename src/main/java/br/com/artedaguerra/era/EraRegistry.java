@@ -0,0 +1,170 @@
+package br.com.artedaguerra.era;
+
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.logging.Logger;
+
+/**
+ * Registro imutável das eras, indexado pelo número da era
+ * É compilado uma única vez a partir da seção 'eras' do config.yml;
+ * um reload compila um registro novo e o publica de uma só vez,
+ * então quem leu o registro antigo nunca vê um estado parcial
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class EraRegistry {
+
+    public static final EraRegistry VAZIO = new EraRegistry(new EraDefinition[1]);
+
+    private final EraDefinition[] eras; // índice 0 não é usado
+    private final int quantidade;
+
+    private EraRegistry(EraDefinition[] eras) {
+        this.eras = eras;
+        this.quantidade = eras.length - 1;
+    }
+
+    /**
+     * Compila o registro a partir da seção 'eras' (chaves era_1, era_2, ...)
+     */
+    public static EraRegistry compilar(ConfigurationSection secao, Logger logger) {
+        if (secao == null) {
+            return VAZIO;
+        }
+
+        int maior = 0;
+        for (String chave : secao.getKeys(false)) {
+            int numero = extrairNumero(chave);
+            if (numero > 0) {
+                maior = Math.max(maior, numero);
+            } else {
+                logger.warning("Chave de era inválida ignorada: eras." + chave);
+            }
+        }
+
+        EraDefinition[] eras = new EraDefinition[maior + 1];
+
+        for (int numero = 1; numero <= maior; numero++) {
+            ConfigurationSection era = secao.getConfigurationSection("era_" + numero);
+
+            if (era == null) {
+                logger.warning("Era " + numero + " não configurada! Usando valores padrão.");
+                eras[numero] = new EraDefinition(numero, "Era " + numero, "Período não definido", false,
+                    null, materialPlataformaPadrao(numero), materialIconePadrao(numero), 0);
+                continue;
+            }
+
+            eras[numero] = new EraDefinition(
+                numero,
+                era.getString("nome", "Era " + numero),
+                era.getString("periodo", "Período não definido"),
+                era.getBoolean("desbloqueada", false),
+                era.getString("mundo"),
+                lerMaterial(era, "material_plataforma", materialPlataformaPadrao(numero), logger),
+                lerMaterial(era, "material_icone", materialIconePadrao(numero), logger),
+                era.getDouble("taxa", 0)
+            );
+        }
+
+        return new EraRegistry(eras);
+    }
+
+    /**
+     * Obtém a definição de uma era
+     *
+     * @return a definição, ou null se o número estiver fora do intervalo
+     */
+    public EraDefinition getEra(int numero) {
+        if (numero < 1 || numero > quantidade) {
+            return null;
+        }
+        return eras[numero];
+    }
+
+    /**
+     * Obtém a era cujo mundo tem o nome informado
+     *
+     * @return a definição, ou null se o mundo não pertencer a nenhuma era
+     */
+    public EraDefinition getEraPorMundo(String mundoNome) {
+        for (int numero = 1; numero <= quantidade; numero++) {
+            if (mundoNome.equals(eras[numero].getMundoNome())) {
+                return eras[numero];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Verifica se o número corresponde a uma era registrada
+     */
+    public boolean isValida(int numero) {
+        return numero >= 1 && numero <= quantidade;
+    }
+
+    /**
+     * Quantidade de eras registradas (numeradas de 1 até este valor)
+     */
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    private static int extrairNumero(String chave) {
+        if (!chave.startsWith("era_")) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(chave.substring(4));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Material lerMaterial(ConfigurationSection secao, String chave, Material padrao, Logger logger) {
+        String nome = secao.getString(chave);
+        if (nome == null) {
+            return padrao;
+        }
+
+        Material material = Material.matchMaterial(nome);
+        if (material == null) {
+            logger.warning("Material inválido em " + secao.getCurrentPath() + "." + chave + ": " + nome);
+            return padrao;
+        }
+        return material;
+    }
+
+    /**
+     * Material base da plataforma da era no lobby
+     */
+    private static Material materialPlataformaPadrao(int era) {
+        switch (era) {
+            case 1: return Material.DIRT; // Primitiva
+            case 2: return Material.STONE; // Pós-Primitiva
+            case 3: return Material.COBBLESTONE; // Medieval
+            case 4: return Material.IRON_BLOCK; // Industrial
+            case 5: return Material.WHITE_CONCRETE; // Moderna
+            case 6: return Material.REDSTONE_BLOCK; // Contemporânea
+            case 7: return Material.DIAMOND_BLOCK; // Futurista
+            default: return Material.STONE;
+        }
+    }
+
+    /**
+     * Material do ícone da era no menu
+     */
+    private static Material materialIconePadrao(int era) {
+        switch (era) {
+            case 1: return Material.WOODEN_PICKAXE; // Primitiva
+            case 2: return Material.STONE_PICKAXE; // Pós-Primitiva
+            case 3: return Material.IRON_SWORD; // Medieval
+            case 4: return Material.IRON_INGOT; // Industrial
+            case 5: return Material.DIAMOND; // Moderna
+            case 6: return Material.REDSTONE_BLOCK; // Contemporânea
+            case 7: return Material.NETHER_STAR; // Futurista
+            default: return Material.STONE;
+        }
+    }
+}
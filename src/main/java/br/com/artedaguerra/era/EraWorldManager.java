@@ -0,0 +1,349 @@
+package br.com.artedaguerra.era;
+
+import br.com.artedaguerra.ArteDaGuerraCore;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.GameRule;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Ciclo de vida dos mundos das eras
+ * Um mundo só é carregado quando alguém pede para entrar nele e é descarregado
+ * depois de ficar o tempo configurado sem jogadores. O carregamento acontece no
+ * tick seguinte ao pedido; enquanto isso o menu mostra a era como carregando e
+ * os pedidos seguintes aguardam o mesmo carregamento. A regra spawnChunkRadius
+ * fica em 0 e é gravada no level.dat, então as cargas seguintes não preparam a
+ * área de spawn; no Paper o WorldCreator já cria o mundo sem ela. No Spigot, a
+ * primeira carga de um mundo que ainda não tem a regra prepara o spawn na thread
+ * principal (o pico continua nesse primeiro acesso). Os
+ * chunks de destino ficam por conta do pipeline de teletransporte. Na descarga,
+ * os chunks são salvos e descarregados aos poucos, alguns por tick, e a gravação
+ * em disco segue pela fila de E/S do servidor; só então o mundo é descarregado
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class EraWorldManager {
+
+    // Paper: WorldCreator.keepSpawnLoaded(TriState.FALSE) desliga o spawn antes da criação
+    private static final Object TRISTATE_FALSE = buscarConstante("net.kyori.adventure.util.TriState", "FALSE");
+    private static final Method MANTER_SPAWN = TRISTATE_FALSE != null
+        ? buscarMetodo(WorldCreator.class, "keepSpawnLoaded", TRISTATE_FALSE.getClass())
+        : null;
+
+    public enum Estado {
+        DESCARREGADO,
+        CARREGANDO,
+        CARREGADO,
+        DESCARREGANDO
+    }
+
+    private final ArteDaGuerraCore plugin;
+    private final Map<String, MundoEra> mundos;
+    private long ociosoNanos;
+    private int chunksPorTick;
+    private BukkitTask tarefaVerificacao;
+    private volatile int mascaraCarregando;
+
+    public EraWorldManager(ArteDaGuerraCore plugin) {
+        this.plugin = plugin;
+        this.mundos = new HashMap<>();
+    }
+
+    /**
+     * Inicia a verificação periódica dos mundos ociosos
+     *
+     * @param ociosoSegundos tempo sem jogadores até o mundo ser descarregado
+     * @param intervaloSegundos intervalo entre verificações
+     * @param chunksPorTick chunks salvos e descarregados por tick durante a descarga
+     */
+    public void iniciar(long ociosoSegundos, long intervaloSegundos, int chunksPorTick) {
+        this.ociosoNanos = Math.max(1, ociosoSegundos) * 1_000_000_000L;
+        this.chunksPorTick = Math.max(1, chunksPorTick);
+
+        long intervalo = Math.max(1, intervaloSegundos) * 20L;
+        tarefaVerificacao = Bukkit.getScheduler().runTaskTimer(plugin, this::verificarOciosos, intervalo, intervalo);
+    }
+
+    /**
+     * Cancela as tarefas; mundos carregados ficam para o servidor salvar ao desligar
+     */
+    public void finalizar() {
+        if (tarefaVerificacao != null) {
+            tarefaVerificacao.cancel();
+            tarefaVerificacao = null;
+        }
+
+        for (MundoEra mundo : mundos.values()) {
+            cancelarDescarga(mundo);
+            mundo.aguardando.clear();
+        }
+        mundos.clear();
+        mascaraCarregando = 0;
+    }
+
+    /**
+     * Garante que o mundo da era esteja carregado e entrega-o ao chamador
+     * Se já estiver carregado, o callback roda na hora; senão, roda na thread
+     * principal assim que o carregamento terminar (com null se falhar)
+     */
+    public void solicitar(EraDefinition era, Consumer<World> aoCarregar) {
+        World world = usar(era);
+        if (world != null) {
+            aoCarregar.accept(world);
+            return;
+        }
+
+        String nome = era.getMundoNome();
+        MundoEra mundo = mundos.get(nome);
+        if (!existeNoDisco(nome)) {
+            aoCarregar.accept(null);
+            return;
+        }
+
+        mundo.aguardando.add(aoCarregar);
+        if (mundo.estado == Estado.CARREGANDO) {
+            return;
+        }
+
+        mundo.estado = Estado.CARREGANDO;
+        atualizarMascara();
+        Bukkit.getScheduler().runTask(plugin, () -> carregar(mundo));
+    }
+
+    /**
+     * Marca o mundo da era como em uso (reinicia o tempo ocioso e cancela
+     * uma descarga em andamento)
+     *
+     * @return o mundo, ou null se ele não estiver carregado
+     */
+    public World usar(EraDefinition era) {
+        String nome = era.getMundoNome();
+        MundoEra mundo = mundos.computeIfAbsent(nome, chave -> new MundoEra(chave, era.getNumero()));
+        mundo.ultimoUso = System.nanoTime();
+
+        World world = Bukkit.getWorld(nome);
+        if (world != null && mundo.estado != Estado.CARREGANDO) {
+            // Alguém voltou enquanto o mundo estava sendo descarregado
+            cancelarDescarga(mundo);
+            mundo.estado = Estado.CARREGADO;
+        }
+        return world;
+    }
+
+    /**
+     * Estado do mundo da era
+     */
+    public Estado getEstado(EraDefinition era) {
+        if (era.getMundoNome() == null) {
+            return Estado.DESCARREGADO;
+        }
+
+        MundoEra mundo = mundos.get(era.getMundoNome());
+        if (mundo != null && mundo.estado != Estado.CARREGADO) {
+            return mundo.estado;
+        }
+        return Bukkit.getWorld(era.getMundoNome()) != null ? Estado.CARREGADO : Estado.DESCARREGADO;
+    }
+
+    /**
+     * Máscara das eras cujo mundo está sendo carregado (bit N-1 = era N)
+     */
+    public int getMascaraCarregando() {
+        return mascaraCarregando;
+    }
+
+    /**
+     * Quantidade de mundos de eras carregados no momento
+     */
+    public int getQuantidadeCarregados() {
+        EraRegistry registry = plugin.getEraRegistry();
+        int total = 0;
+        for (int numero = 1; numero <= registry.getQuantidade(); numero++) {
+            if (registry.getEra(numero).getMundo() != null) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    private void carregar(MundoEra mundo) {
+        long inicio = System.nanoTime();
+        World world = Bukkit.getWorld(mundo.nome);
+
+        if (world == null) {
+            try {
+                WorldCreator criador = new WorldCreator(mundo.nome);
+                if (MANTER_SPAWN != null) {
+                    MANTER_SPAWN.invoke(criador, TRISTATE_FALSE);
+                }
+
+                world = criador.createWorld();
+                if (world != null) {
+                    // Vale a partir da próxima carga (no Spigot, esta já preparou o spawn)
+                    world.setGameRule(GameRule.SPAWN_CHUNK_RADIUS, 0);
+                    plugin.getLogger().info("Mundo da era '" + mundo.nome + "' carregado em "
+                        + (System.nanoTime() - inicio) / 1_000_000 + " ms.");
+                }
+            } catch (Exception e) {
+                plugin.getLogger().warning("Erro ao carregar o mundo da era '" + mundo.nome + "': " + e.getMessage());
+                world = null;
+            }
+        }
+
+        mundo.estado = world != null ? Estado.CARREGADO : Estado.DESCARREGADO;
+        mundo.ultimoUso = System.nanoTime();
+        atualizarMascara();
+
+        List<Consumer<World>> aguardando = new ArrayList<>(mundo.aguardando);
+        mundo.aguardando.clear();
+        for (Consumer<World> callback : aguardando) {
+            callback.accept(world);
+        }
+    }
+
+    /**
+     * Descarrega os mundos das eras que estão sem jogadores há mais tempo que o configurado
+     */
+    private void verificarOciosos() {
+        EraRegistry registry = plugin.getEraRegistry();
+        World principal = Bukkit.getWorlds().isEmpty() ? null : Bukkit.getWorlds().get(0);
+        long agora = System.nanoTime();
+
+        for (int numero = 1; numero <= registry.getQuantidade(); numero++) {
+            EraDefinition era = registry.getEra(numero);
+            World world = era.getMundo();
+            if (world == null || world == principal) {
+                continue;
+            }
+
+            MundoEra mundo = mundos.computeIfAbsent(era.getMundoNome(), chave -> {
+                MundoEra novo = new MundoEra(chave, era.getNumero());
+                novo.estado = Estado.CARREGADO;
+                novo.ultimoUso = agora;
+                return novo;
+            });
+
+            if (mundo.estado != Estado.CARREGADO) {
+                continue;
+            }
+
+            if (!world.getPlayers().isEmpty()) {
+                mundo.ultimoUso = agora;
+            } else if (agora - mundo.ultimoUso >= ociosoNanos) {
+                iniciarDescarga(mundo, world);
+            }
+        }
+    }
+
+    private void iniciarDescarga(MundoEra mundo, World world) {
+        mundo.estado = Estado.DESCARREGANDO;
+        Chunk[] chunks = world.getLoadedChunks();
+
+        mundo.descarga = new BukkitRunnable() {
+            private int indice;
+
+            @Override
+            public void run() {
+                if (!world.getPlayers().isEmpty()) {
+                    cancelarDescarga(mundo);
+                    mundo.estado = Estado.CARREGADO;
+                    mundo.ultimoUso = System.nanoTime();
+                    return;
+                }
+
+                int limite = Math.min(chunks.length, indice + chunksPorTick);
+                for (; indice < limite; indice++) {
+                    if (chunks[indice].isLoaded()) {
+                        chunks[indice].unload(true);
+                    }
+                }
+
+                if (indice >= chunks.length) {
+                    cancelarDescarga(mundo);
+                    concluirDescarga(mundo, world);
+                }
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    private void concluirDescarga(MundoEra mundo, World world) {
+        long inicio = System.nanoTime();
+        boolean descarregado = Bukkit.unloadWorld(world, true);
+        mundo.estado = descarregado ? Estado.DESCARREGADO : Estado.CARREGADO;
+        mundo.ultimoUso = System.nanoTime();
+
+        if (descarregado) {
+            plugin.getLogger().info("Mundo da era '" + mundo.nome + "' descarregado por inatividade ("
+                + (System.nanoTime() - inicio) / 1_000_000 + " ms).");
+        }
+    }
+
+    private void cancelarDescarga(MundoEra mundo) {
+        if (mundo.descarga != null) {
+            mundo.descarga.cancel();
+            mundo.descarga = null;
+        }
+    }
+
+    private void atualizarMascara() {
+        int mascara = 0;
+        for (MundoEra mundo : mundos.values()) {
+            if (mundo.estado == Estado.CARREGANDO && mundo.era >= 1 && mundo.era <= EraAccessCache.MAX_ERAS) {
+                mascara |= 1 << (mundo.era - 1);
+            }
+        }
+        mascaraCarregando = mascara;
+    }
+
+    private static boolean existeNoDisco(String nome) {
+        return new File(new File(Bukkit.getWorldContainer(), nome), "level.dat").exists();
+    }
+
+    private static Method buscarMetodo(Class<?> classe, String nome, Class<?>... parametros) {
+        try {
+            return classe.getMethod(nome, parametros);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object buscarConstante(String classe, String nome) {
+        try {
+            return Enum.valueOf((Class) Class.forName(classe), nome);
+        } catch (ClassNotFoundException | IllegalArgumentException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Estado de um mundo de era gerenciado (só acessado na thread principal)
+     */
+    private static final class MundoEra {
+
+        final String nome;
+        final int era;
+        final List<Consumer<World>> aguardando = new ArrayList<>(1);
+        Estado estado = Estado.DESCARREGADO;
+        long ultimoUso;
+        BukkitTask descarga;
+
+        MundoEra(String nome, int era) {
+            this.nome = nome;
+            this.era = era;
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package br.com.artedaguerra.integracao;
+
+import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Expansão do PlaceholderAPI: %artedaguerra_<placeholder>%
+ * Os valores vêm do PlaceholderCache. Só deve ser carregada se o
+ * PlaceholderAPI estiver presente no servidor
+ *
+ * Por jogador: era_atual, era_atual_numero, lobby_atual, eras_desbloqueadas,
+ * cooldown_era, cooldown_lobby, era_N_acesso
+ * Globais: eras_total, jogadores_lobby, lobby_N_jogadores, era_N_nome,
+ * era_N_periodo, era_N_jogadores
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class ArteDaGuerraExpansion extends PlaceholderExpansion {
+
+    private final Plugin plugin;
+    private final PlaceholderCache cache;
+
+    public ArteDaGuerraExpansion(Plugin plugin, PlaceholderCache cache) {
+        this.plugin = plugin;
+        this.cache = cache;
+    }
+
+    @Override
+    public String getIdentifier() {
+        return "artedaguerra";
+    }
+
+    @Override
+    public String getAuthor() {
+        return "Arte da Guerra Team";
+    }
+
+    @Override
+    public String getVersion() {
+        return plugin.getDescription().getVersion();
+    }
+
+    /**
+     * Mantém a expansão registrada quando o PlaceholderAPI é recarregado
+     */
+    @Override
+    public boolean persist() {
+        return true;
+    }
+
+    @Override
+    public String onRequest(OfflinePlayer player, String params) {
+        return cache.resolver(player != null ? player.getUniqueId() : null, params);
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.artedaguerra.integracao;
+
+import br.com.artedaguerra.era.EraAccessCache;
+import br.com.artedaguerra.protecao.ProtectionManager;
+import net.luckperms.api.LuckPerms;
+import net.luckperms.api.LuckPermsProvider;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Integração com o LuckPerms
+ * Recalcula a máscara de acesso às eras e o bypass de proteção quando os
+ * dados de permissão de um usuário são recalculados. Só deve ser carregada se o LuckPerms
+ * estiver presente no servidor
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class LuckPermsHook {
+
+    private final Plugin plugin;
+    private final EraAccessCache accessCache;
+    private final ProtectionManager protectionManager;
+    private final Set<UUID> pendentes;
+    private EventSubscription<UserDataRecalculateEvent> inscricao;
+
+    public LuckPermsHook(Plugin plugin, EraAccessCache accessCache, ProtectionManager protectionManager) {
+        this.plugin = plugin;
+        this.accessCache = accessCache;
+        this.protectionManager = protectionManager;
+        this.pendentes = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Inscreve o hook no barramento de eventos do LuckPerms
+     */
+    public void registrar() {
+        LuckPerms luckPerms = LuckPermsProvider.get();
+        inscricao = luckPerms.getEventBus().subscribe(plugin, UserDataRecalculateEvent.class, this::aoRecalcular);
+    }
+
+    /**
+     * O evento pode chegar em qualquer thread e várias vezes seguidas;
+     * agrupa por jogador e recalcula uma vez na thread principal
+     */
+    private void aoRecalcular(UserDataRecalculateEvent event) {
+        UUID playerId = event.getUser().getUniqueId();
+
+        if (!pendentes.add(playerId) || !plugin.isEnabled()) {
+            return;
+        }
+
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            pendentes.remove(playerId);
+
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                accessCache.atualizar(player);
+                protectionManager.atualizar(player);
+            }
+        });
+    }
+
+    /**
+     * Cancela a inscrição nos eventos
+     */
+    public void cancelar() {
+        if (inscricao != null) {
+            inscricao.close();
+            inscricao = null;
+        }
+        pendentes.clear();
+    }
+}
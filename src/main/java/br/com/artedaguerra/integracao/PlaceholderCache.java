@@ -0,0 +1,233 @@
+package br.com.artedaguerra.integracao;
+
+import br.com.artedaguerra.ArteDaGuerraCore;
+import br.com.artedaguerra.cooldown.CooldownType;
+import br.com.artedaguerra.era.EraAccessCache;
+import br.com.artedaguerra.era.EraDefinition;
+import br.com.artedaguerra.era.EraRegistry;
+import br.com.artedaguerra.lobby.LobbyManager;
+import br.com.artedaguerra.lobby.LobbyShard;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Valores pré-calculados para os placeholders
+ * Scoreboards e listas de jogadores resolvem placeholders muitas vezes por
+ * segundo, às vezes fora da thread principal. Tudo o que é lido aqui vem de
+ * caches atualizados quando o estado muda (entrada, troca de mundo, saída,
+ * reload): a resolução é uma busca no mapa de valores e nunca consulta
+ * config nem permissões
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class PlaceholderCache implements Listener {
+
+    /** Textos dos números mais comuns, para não criar Strings na resolução */
+    private static final String[] NUMEROS = new String[1025];
+
+    static {
+        for (int i = 0; i < NUMEROS.length; i++) {
+            NUMEROS[i] = String.valueOf(i);
+        }
+    }
+
+    private static final Local FORA = new Local(0, 0, false);
+
+    private final ArteDaGuerraCore plugin;
+    private final Map<UUID, Local> locais;
+    private final AtomicIntegerArray populacaoEras;
+    private volatile Map<String, Valor> valores;
+    private volatile String[] nomesEras;
+
+    public PlaceholderCache(ArteDaGuerraCore plugin) {
+        this.plugin = plugin;
+        this.locais = new ConcurrentHashMap<>();
+        this.populacaoEras = new AtomicIntegerArray(EraAccessCache.MAX_ERAS + 1);
+        this.valores = new HashMap<>();
+        this.nomesEras = new String[1];
+    }
+
+    /**
+     * Reconstrói a tabela de valores e a localização de todos os jogadores online
+     * Deve ser chamado na thread principal, ao ativar e depois de cada reload
+     */
+    public void reconstruir() {
+        EraRegistry registry = plugin.getEraRegistry();
+        LobbyManager lobbyManager = plugin.getLobbyManager();
+
+        String[] nomes = new String[registry.getQuantidade() + 1];
+        for (int numero = 1; numero < nomes.length; numero++) {
+            nomes[numero] = registry.getEra(numero).getNome();
+        }
+        nomesEras = nomes;
+
+        Map<String, Valor> novos = new HashMap<>();
+        novos.put("era_atual", playerId -> {
+            Local local = getLocal(playerId);
+            if (local.era > 0) return nomeEra(local.era);
+            return local.noLobby ? "Lobby" : "";
+        });
+        novos.put("era_atual_numero", playerId -> numero(getLocal(playerId).era));
+        novos.put("lobby_atual", playerId -> {
+            Local local = getLocal(playerId);
+            return local.noLobby ? numero(Math.max(1, local.shard)) : "";
+        });
+        novos.put("eras_desbloqueadas", playerId ->
+            numero(Integer.bitCount(plugin.getEraAccessCache().getMascaraEmCache(playerId))));
+        novos.put("eras_total", playerId -> numero(registry.getQuantidade()));
+        novos.put("cooldown_era", playerId -> segundosRestantes(lobbyManager, playerId, CooldownType.ERA));
+        novos.put("cooldown_lobby", playerId -> segundosRestantes(lobbyManager, playerId, CooldownType.LOBBY));
+        novos.put("jogadores_lobby", playerId -> numero(lobbyManager.getMembership().getQuantidade()));
+
+        for (LobbyShard shard : lobbyManager.getShards()) {
+            String mundo = shard.getWorldName();
+            novos.put("lobby_" + shard.getNumero() + "_jogadores",
+                playerId -> numero(lobbyManager.getMembership().getQuantidade(mundo)));
+        }
+
+        for (int numero = 1; numero < nomes.length; numero++) {
+            EraDefinition era = registry.getEra(numero);
+            String nome = era.getNome();
+            String periodo = era.getPeriodo();
+            int bit = 1 << (numero - 1);
+            int indice = numero;
+
+            novos.put("era_" + numero + "_nome", playerId -> nome);
+            novos.put("era_" + numero + "_periodo", playerId -> periodo);
+            novos.put("era_" + numero + "_jogadores", playerId -> numero(populacaoEras.get(indice)));
+            novos.put("era_" + numero + "_acesso", playerId ->
+                (plugin.getEraAccessCache().getMascaraEmCache(playerId) & bit) != 0 ? "sim" : "não");
+        }
+        valores = novos;
+
+        // Mundos das eras podem ter mudado no reload
+        locais.clear();
+        for (int i = 0; i < populacaoEras.length(); i++) {
+            populacaoEras.set(i, 0);
+        }
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            atualizar(player, player.getWorld());
+        }
+    }
+
+    /**
+     * Resolve um placeholder (sem o prefixo "artedaguerra_")
+     *
+     * @param playerId jogador do contexto, ou null para placeholders globais
+     * @return o valor, ou null se o placeholder não existir
+     */
+    public String resolver(UUID playerId, String parametro) {
+        Valor valor = valores.get(parametro);
+        return valor != null ? valor.resolver(playerId) : null;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        atualizar(event.getPlayer(), event.getPlayer().getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        atualizar(event.getPlayer(), event.getPlayer().getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        Local anterior = locais.remove(event.getPlayer().getUniqueId());
+        if (anterior != null && anterior.era > 0) {
+            populacaoEras.decrementAndGet(anterior.era);
+        }
+    }
+
+    /**
+     * Recalcula onde o jogador está e ajusta a população das eras
+     */
+    private void atualizar(Player player, World world) {
+        Local novo = localizar(world);
+        Local anterior = locais.put(player.getUniqueId(), novo);
+
+        if (anterior != null && anterior.era > 0) {
+            populacaoEras.decrementAndGet(anterior.era);
+        }
+        if (novo.era > 0) {
+            populacaoEras.incrementAndGet(novo.era);
+        }
+    }
+
+    private Local localizar(World world) {
+        if (world == null) {
+            return FORA;
+        }
+
+        LobbyManager lobbyManager = plugin.getLobbyManager();
+        if (lobbyManager.getMembership().isMundoLobby(world)) {
+            LobbyShard shard = lobbyManager.getShard(world);
+            return new Local(0, shard != null ? shard.getNumero() : 0, true);
+        }
+
+        EraDefinition era = plugin.getEraRegistry().getEraPorMundo(world.getName());
+        return era != null ? new Local(era.getNumero(), 0, false) : FORA;
+    }
+
+    private Local getLocal(UUID playerId) {
+        if (playerId == null) {
+            return FORA;
+        }
+        Local local = locais.get(playerId);
+        return local != null ? local : FORA;
+    }
+
+    private String nomeEra(int era) {
+        String[] nomes = nomesEras;
+        return era < nomes.length && nomes[era] != null ? nomes[era] : "";
+    }
+
+    private static String segundosRestantes(LobbyManager lobbyManager, UUID playerId, CooldownType tipo) {
+        if (playerId == null) {
+            return NUMEROS[0];
+        }
+
+        long nanos = lobbyManager.getCooldownManager().getRestanteNanos(playerId, tipo);
+        return numero((int) ((nanos + 999_999_999L) / 1_000_000_000L));
+    }
+
+    private static String numero(int valor) {
+        return valor >= 0 && valor < NUMEROS.length ? NUMEROS[valor] : String.valueOf(valor);
+    }
+
+    /**
+     * Valor de um placeholder para um jogador (ou null, nos globais)
+     */
+    private interface Valor {
+        String resolver(UUID playerId);
+    }
+
+    /**
+     * Onde o jogador está: número da era (0 fora das eras) e instância do lobby
+     */
+    private static final class Local {
+        private final int era;
+        private final int shard;
+        private final boolean noLobby;
+
+        private Local(int era, int shard, boolean noLobby) {
+            this.era = era;
+            this.shard = shard;
+            this.noLobby = noLobby;
+        }
+    }
+}
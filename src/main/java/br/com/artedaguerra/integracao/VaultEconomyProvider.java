@@ -0,0 +1,52 @@
+package br.com.artedaguerra.integracao;
+
+import br.com.artedaguerra.economia.EconomyProvider;
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.RegisteredServiceProvider;
+
+/**
+ * Integração com o Vault
+ * Só deve ser carregada se o Vault estiver presente no servidor
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class VaultEconomyProvider implements EconomyProvider {
+
+    private final Economy economy;
+
+    private VaultEconomyProvider(Economy economy) {
+        this.economy = economy;
+    }
+
+    /**
+     * Obtém o provedor de economia registrado no Vault
+     *
+     * @return o provedor, ou null se nenhum plugin de economia estiver registrado
+     */
+    public static VaultEconomyProvider criar() {
+        RegisteredServiceProvider<Economy> registro = Bukkit.getServicesManager().getRegistration(Economy.class);
+        if (registro == null || registro.getProvider() == null) {
+            return null;
+        }
+        return new VaultEconomyProvider(registro.getProvider());
+    }
+
+    public String getNome() {
+        return economy.getName();
+    }
+
+    @Override
+    public double getSaldo(OfflinePlayer player) {
+        return economy.getBalance(player);
+    }
+
+    @Override
+    public Resultado sacar(OfflinePlayer player, double valor) {
+        EconomyResponse resposta = economy.withdrawPlayer(player, valor);
+        return new Resultado(resposta.transactionSuccess(), resposta.balance, resposta.errorMessage);
+    }
+}
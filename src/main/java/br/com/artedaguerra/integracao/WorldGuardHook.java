@@ -0,0 +1,250 @@
+package br.com.artedaguerra.integracao;
+
+import br.com.artedaguerra.lobby.RegionProtection;
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.WorldGuard;
+import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.server.ServerCommandEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Integração com o WorldGuard
+ * Limita a proteção do lobby às regiões configuradas. As regiões que tocam
+ * cada chunk são consultadas uma vez e guardadas em cache; os eventos seguintes
+ * no mesmo chunk só testam as poucas regiões já encontradas. O cache expira
+ * após o TTL e é descartado quando as regiões são alteradas por comando.
+ * Só deve ser carregada se o WorldGuard estiver presente no servidor
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class WorldGuardHook implements RegionProtection, Listener {
+
+    private static final int MAX_CHUNKS = 4096;
+    private static final long ATRASO_INVALIDACAO = 20L; // o WorldGuard aplica as alterações de forma assíncrona
+    private static final ProtectedRegion[] SEM_REGIOES = new ProtectedRegion[0];
+    private static final Set<String> COMANDOS_REGIAO = Set.of("rg", "region", "regions");
+
+    private final Plugin plugin;
+    private final Map<UUID, Map<Long, Celula>> cache;
+    private Set<String> regioes = Set.of();
+    private long ttlNanos;
+    private boolean invalidacaoAgendada;
+
+    // Último chunk consultado: eventos seguidos costumam cair no mesmo chunk
+    private UUID ultimoMundo;
+    private long ultimaChave;
+    private Celula ultimaCelula;
+
+    public WorldGuardHook(Plugin plugin) {
+        this.plugin = plugin;
+        this.cache = new HashMap<>();
+    }
+
+    /**
+     * Define as regiões protegidas e o tempo de vida das consultas em cache
+     */
+    public void configurar(Collection<String> regioes, long ttlSegundos) {
+        Set<String> normalizadas = new HashSet<>();
+        for (String regiao : regioes) {
+            normalizadas.add(regiao.toLowerCase(Locale.ROOT));
+        }
+        this.regioes = normalizadas;
+        this.ttlNanos = Math.max(1, ttlSegundos) * 1_000_000_000L;
+        invalidar();
+    }
+
+    @Override
+    public boolean temRegioes() {
+        return !regioes.isEmpty();
+    }
+
+    @Override
+    public boolean isProtegido(World world, int x, int y, int z) {
+        Celula celula = buscarCelula(world, x >> 4, z >> 4);
+
+        if (celula.inteira) {
+            return true;
+        }
+
+        for (ProtectedRegion regiao : celula.regioes) {
+            if (regiao.contains(x, y, z)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void invalidar() {
+        cache.clear();
+        ultimoMundo = null;
+        ultimaCelula = null;
+    }
+
+    public int getChunksEmCache() {
+        int total = 0;
+        for (Map<Long, Celula> chunks : cache.values()) {
+            total += chunks.size();
+        }
+        return total;
+    }
+
+    private Celula buscarCelula(World world, int chunkX, int chunkZ) {
+        UUID mundo = world.getUID();
+        long chave = ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        long agora = System.nanoTime();
+
+        Celula celula = ultimaCelula;
+        if (celula != null && chave == ultimaChave && mundo.equals(ultimoMundo) && agora < celula.expira) {
+            return celula;
+        }
+
+        Map<Long, Celula> chunks = cache.computeIfAbsent(mundo, id -> new HashMap<>());
+        celula = chunks.get(chave);
+
+        if (celula == null || agora >= celula.expira) {
+            if (chunks.size() >= MAX_CHUNKS) {
+                chunks.clear();
+            }
+            celula = consultar(world, chunkX, chunkZ, agora + ttlNanos);
+            chunks.put(chave, celula);
+        }
+
+        ultimoMundo = mundo;
+        ultimaChave = chave;
+        ultimaCelula = celula;
+        return celula;
+    }
+
+    /**
+     * Consulta no WorldGuard as regiões configuradas que tocam o chunk
+     */
+    private Celula consultar(World world, int chunkX, int chunkZ, long expira) {
+        RegionManager manager = WorldGuard.getInstance().getPlatform().getRegionContainer()
+            .get(BukkitAdapter.adapt(world));
+        if (manager == null) {
+            return new Celula(SEM_REGIOES, false, expira);
+        }
+
+        int minX = chunkX << 4;
+        int minZ = chunkZ << 4;
+        int maxX = minX + 15;
+        int maxZ = minZ + 15;
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight() - 1;
+
+        ProtectedCuboidRegion chunk = new ProtectedCuboidRegion("artedaguerra_chunk", true,
+            BlockVector3.at(minX, minY, minZ), BlockVector3.at(maxX, maxY, maxZ));
+
+        List<ProtectedRegion> encontradas = new ArrayList<>();
+        for (ProtectedRegion regiao : manager.getApplicableRegions(chunk)) {
+            if (!isConfigurada(regiao)) {
+                continue;
+            }
+
+            // Um cuboide que cobre o chunk inteiro dispensa os testes por bloco
+            if (regiao instanceof ProtectedCuboidRegion
+                    && regiao.contains(minX, minY, minZ) && regiao.contains(maxX, maxY, maxZ)) {
+                return new Celula(SEM_REGIOES, true, expira);
+            }
+            encontradas.add(regiao);
+        }
+
+        return new Celula(encontradas.isEmpty() ? SEM_REGIOES : encontradas.toArray(new ProtectedRegion[0]), false, expira);
+    }
+
+    /**
+     * A região conta se ela ou uma de suas ancestrais estiver na configuração
+     */
+    private boolean isConfigurada(ProtectedRegion regiao) {
+        for (ProtectedRegion atual = regiao; atual != null; atual = atual.getParent()) {
+            if (regioes.contains(atual.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Comandos de região do WorldGuard (define, redefine, remove, setparent...)
+     * invalidam o cache logo depois de aplicados
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
+        verificarComando(event.getMessage());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onServerCommand(ServerCommandEvent event) {
+        verificarComando(event.getCommand());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        cache.remove(event.getWorld().getUID());
+        if (event.getWorld().getUID().equals(ultimoMundo)) {
+            ultimoMundo = null;
+            ultimaCelula = null;
+        }
+    }
+
+    private void verificarComando(String linha) {
+        if (regioes.isEmpty() || invalidacaoAgendada) {
+            return;
+        }
+
+        String comando = linha.startsWith("/") ? linha.substring(1) : linha;
+        int espaco = comando.indexOf(' ');
+        if (espaco >= 0) {
+            comando = comando.substring(0, espaco);
+        }
+        comando = comando.toLowerCase(Locale.ROOT);
+        if (comando.startsWith("worldguard:")) {
+            comando = comando.substring("worldguard:".length());
+        }
+
+        if (COMANDOS_REGIAO.contains(comando)) {
+            invalidacaoAgendada = true;
+            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+                invalidacaoAgendada = false;
+                invalidar();
+            }, ATRASO_INVALIDACAO);
+        }
+    }
+
+    /**
+     * Regiões configuradas que tocam um chunk
+     */
+    private static final class Celula {
+
+        final ProtectedRegion[] regioes;
+        final boolean inteira;
+        final long expira;
+
+        Celula(ProtectedRegion[] regioes, boolean inteira, long expira) {
+            this.regioes = regioes;
+            this.inteira = inteira;
+            this.expira = expira;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.artedaguerra.inventario;
+
+import br.com.artedaguerra.ArteDaGuerraCore;
+import br.com.artedaguerra.era.EraDefinition;
+import br.com.artedaguerra.lobby.LobbyManager;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Separa inventário, experiência e efeitos por grupo de mundos
+ * Cada era tem o seu grupo; os mundos do lobby não guardam nada (o jogador
+ * recebe só os itens de navegação) e os demais mundos compartilham o grupo
+ * "principal". Ao trocar de grupo o estado atual é guardado e o do destino restaurado
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class InventoryListener implements Listener {
+
+    private static final String GRUPO_LOBBY = "lobby";
+    private static final String GRUPO_PRINCIPAL = "principal";
+
+    private final ArteDaGuerraCore plugin;
+    private final InventoryStore store;
+    private final Map<UUID, String> carregando; // grupo cuja cópia ainda não foi aplicada (só de quem está online)
+
+    public InventoryListener(ArteDaGuerraCore plugin, InventoryStore store) {
+        this.plugin = plugin;
+        this.store = store;
+        this.carregando = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Roda antes dos demais listeners, para que eles já vejam o inventário do destino
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        Player player = event.getPlayer();
+        String origem = grupo(event.getFrom());
+        String destino = grupo(player.getWorld());
+
+        if (origem.equals(destino)) {
+            return;
+        }
+
+        UUID playerId = player.getUniqueId();
+
+        // Se a cópia da origem nem chegou a ser aplicada, a do disco continua valendo
+        String pendente = carregando.remove(playerId);
+        if (pendente != null) {
+            store.limparPendente(playerId);
+        }
+        if (!origem.equals(GRUPO_LOBBY) && !origem.equals(pendente)) {
+            store.salvar(playerId, origem, InventorySnapshot.capturar(player));
+        }
+
+        if (destino.equals(GRUPO_LOBBY)) {
+            InventorySnapshot.VAZIO.aplicar(player);
+
+            LobbyManager lobbyManager = plugin.getLobbyManager();
+            if (lobbyManager != null && lobbyManager.isNavigationItemsEnabled()) {
+                lobbyManager.fornecerItensNavegacao(player);
+            }
+            return;
+        }
+
+        InventorySnapshot snapshot = store.getEmMemoria(playerId, destino);
+        if (snapshot != null) {
+            snapshot.aplicar(player);
+            return;
+        }
+
+        // Não está em memória: começa vazio e aplica a cópia quando a leitura terminar
+        InventorySnapshot.VAZIO.aplicar(player);
+        restaurar(player, destino);
+    }
+
+    /**
+     * Traz de volta a marcação gravada na saída (fora da thread principal)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+
+        String pendente = store.lerPendente(event.getUniqueId());
+        if (pendente != null) {
+            carregando.putIfAbsent(event.getUniqueId(), pendente);
+        }
+    }
+
+    /**
+     * Login recusado depois do pré-login: a marcação continua só no disco
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED && Bukkit.getPlayer(event.getPlayer().getUniqueId()) == null) {
+            carregando.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    /**
+     * Quem sai antes de a cópia ser aplicada tem a marcação gravada em disco,
+     * então o mapa só guarda jogadores online
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        String pendente = carregando.remove(playerId);
+        if (pendente != null) {
+            store.marcarPendente(playerId, pendente);
+        }
+    }
+
+    /**
+     * Quem saiu antes de a cópia ser aplicada volta com o inventário vazio
+     * daquele momento; a marcação volta do disco no pré-login, então a cópia
+     * é aplicada agora e o estado vazio nunca é gravado por cima dela
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        String pendente = carregando.get(player.getUniqueId());
+        if (pendente == null) {
+            return;
+        }
+
+        if (pendente.equals(grupo(player.getWorld()))) {
+            restaurar(player, pendente);
+        } else {
+            carregando.remove(player.getUniqueId());
+            store.limparPendente(player.getUniqueId());
+        }
+    }
+
+    /**
+     * Lê a cópia do grupo e aplica-a ao jogador, mantendo os itens que ele
+     * pegar durante a leitura. Enquanto não for aplicada, o grupo fica marcado
+     * em 'carregando' e o estado atual não é gravado ao sair dele
+     */
+    private void restaurar(Player player, String destino) {
+        UUID playerId = player.getUniqueId();
+        carregando.put(playerId, destino);
+
+        store.carregar(playerId, destino, carregado -> {
+            if (!destino.equals(carregando.get(playerId))) {
+                return; // O jogador já saiu desse grupo
+            }
+
+            Player atual = Bukkit.getPlayer(playerId);
+            if (atual == null) {
+                return; // Saiu durante a leitura; a cópia é aplicada quando ele voltar
+            }
+
+            // A cópia ilegível já foi movida para o lado pelo store: o estado atual pode ser gravado
+            carregando.remove(playerId);
+            store.limparPendente(playerId);
+
+            if (carregado == null) {
+                atual.sendMessage("§cNão foi possível restaurar seu inventário deste mundo; a cópia antiga foi guardada para a equipe.");
+                return;
+            }
+
+            carregado.aplicarMantendoItens(atual);
+        });
+    }
+
+    /**
+     * Grupo de inventário de um mundo
+     */
+    private String grupo(World world) {
+        LobbyManager lobbyManager = plugin.getLobbyManager();
+        if (lobbyManager != null && lobbyManager.getMembership().isMundoLobby(world)) {
+            return GRUPO_LOBBY;
+        }
+
+        EraDefinition era = plugin.getEraRegistry().getEraPorMundo(world.getName());
+        return era != null ? era.getMundoNome() : GRUPO_PRINCIPAL;
+    }
+}
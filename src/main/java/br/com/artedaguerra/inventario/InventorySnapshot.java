@@ -0,0 +1,156 @@
+package br.com.artedaguerra.inventario;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.util.io.BukkitObjectInputStream;
+import org.bukkit.util.io.BukkitObjectOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cópia do inventário, armadura, experiência e efeitos de um jogador
+ * A captura e a aplicação acontecem na thread principal; os itens são
+ * clonados na captura, então a serialização pode rodar em outra thread.
+ * Formato em disco: versão, itens, nível, progresso e efeitos, em GZIP
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class InventorySnapshot {
+
+    private static final int VERSAO_FORMATO = 1;
+
+    /** Inventário vazio, aplicado em mundos que o jogador ainda não visitou */
+    public static final InventorySnapshot VAZIO = new InventorySnapshot(new ItemStack[0], 0, 0f, Collections.emptyList());
+
+    private final ItemStack[] conteudo; // inventário, armadura e mão secundária
+    private final int nivel;
+    private final float progresso;
+    private final List<PotionEffect> efeitos;
+
+    private InventorySnapshot(ItemStack[] conteudo, int nivel, float progresso, List<PotionEffect> efeitos) {
+        this.conteudo = conteudo;
+        this.nivel = nivel;
+        this.progresso = progresso;
+        this.efeitos = efeitos;
+    }
+
+    /**
+     * Captura o estado atual do jogador
+     */
+    public static InventorySnapshot capturar(Player player) {
+        ItemStack[] atual = player.getInventory().getContents();
+        ItemStack[] conteudo = new ItemStack[atual.length];
+
+        for (int i = 0; i < atual.length; i++) {
+            conteudo[i] = atual[i] != null ? atual[i].clone() : null;
+        }
+
+        return new InventorySnapshot(conteudo, player.getLevel(), player.getExp(),
+            new ArrayList<>(player.getActivePotionEffects()));
+    }
+
+    /**
+     * Substitui o estado do jogador por esta cópia
+     */
+    public void aplicar(Player player) {
+        ItemStack[] copia = new ItemStack[player.getInventory().getSize()];
+        for (int i = 0; i < conteudo.length && i < copia.length; i++) {
+            copia[i] = conteudo[i] != null ? conteudo[i].clone() : null;
+        }
+        player.getInventory().setContents(copia);
+
+        player.setLevel(nivel);
+        player.setExp(progresso);
+
+        for (PotionEffect efeito : player.getActivePotionEffects()) {
+            player.removePotionEffect(efeito.getType());
+        }
+        player.addPotionEffects(efeitos);
+    }
+
+    /**
+     * Aplica esta cópia sem perder os itens que o jogador pegou enquanto ela
+     * era lida do disco: eles voltam ao inventário e o que não couber cai no chão
+     */
+    public void aplicarMantendoItens(Player player) {
+        List<ItemStack> recebidos = new ArrayList<>();
+        for (ItemStack item : player.getInventory().getContents()) {
+            if (item != null && !item.getType().isAir()) {
+                recebidos.add(item.clone());
+            }
+        }
+
+        aplicar(player);
+
+        if (recebidos.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, ItemStack> sobra = player.getInventory().addItem(recebidos.toArray(new ItemStack[0]));
+        for (ItemStack item : sobra.values()) {
+            player.getWorld().dropItemNaturally(player.getLocation(), item);
+        }
+    }
+
+    /**
+     * Serializa a cópia comprimida no fluxo (pode rodar fora da thread principal)
+     */
+    public void escrever(OutputStream saida) throws IOException {
+        try (BukkitObjectOutputStream objetos = new BukkitObjectOutputStream(new GZIPOutputStream(saida))) {
+            objetos.writeInt(VERSAO_FORMATO);
+
+            objetos.writeInt(conteudo.length);
+            for (ItemStack item : conteudo) {
+                objetos.writeObject(item);
+            }
+
+            objetos.writeInt(nivel);
+            objetos.writeFloat(progresso);
+
+            objetos.writeInt(efeitos.size());
+            for (PotionEffect efeito : efeitos) {
+                objetos.writeObject(efeito);
+            }
+        }
+    }
+
+    /**
+     * Lê uma cópia escrita por {@link #escrever(OutputStream)}
+     */
+    public static InventorySnapshot ler(InputStream entrada) throws IOException {
+        try (BukkitObjectInputStream objetos = new BukkitObjectInputStream(new GZIPInputStream(entrada))) {
+            int versao = objetos.readInt();
+            if (versao != VERSAO_FORMATO) {
+                throw new IOException("Versão de inventário desconhecida: " + versao);
+            }
+
+            ItemStack[] conteudo = new ItemStack[objetos.readInt()];
+            for (int i = 0; i < conteudo.length; i++) {
+                conteudo[i] = (ItemStack) objetos.readObject();
+            }
+
+            int nivel = objetos.readInt();
+            float progresso = objetos.readFloat();
+
+            int quantidadeEfeitos = objetos.readInt();
+            List<PotionEffect> efeitos = new ArrayList<>(quantidadeEfeitos);
+            for (int i = 0; i < quantidadeEfeitos; i++) {
+                efeitos.add((PotionEffect) objetos.readObject());
+            }
+
+            return new InventorySnapshot(conteudo, nivel, progresso, efeitos);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Inventário corrompido", e);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package br.com.artedaguerra.inventario;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Armazenamento das cópias de inventário por jogador e grupo de mundos
+ * As cópias recentes ficam num LRU em memória, então idas e voltas rápidas
+ * entre lobby e era não tocam o disco. A gravação (serialização + GZIP) roda
+ * numa única thread, em ordem, em inventarios/&lt;uuid&gt;/&lt;grupo&gt;.dat;
+ * cópias ainda não gravadas ficam em 'emEscrita' e têm prioridade na leitura.
+ * Cópias ilegíveis são movidas para &lt;grupo&gt;.dat.corrompido, e a marcação de
+ * cópia ainda não aplicada de quem sai do servidor fica em &lt;uuid&gt;/pendente
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class InventoryStore {
+
+    private final Plugin plugin;
+    private final File pasta;
+    private final Map<String, InventorySnapshot> recentes;
+    private final Map<String, InventorySnapshot> emEscrita;
+    private final Map<UUID, String> pendentes; // marcações ainda não gravadas
+    private final ExecutorService escritor;
+
+    /**
+     * @param capacidadeCache quantidade máxima de cópias mantidas em memória
+     */
+    public InventoryStore(Plugin plugin, File pasta, int capacidadeCache) {
+        this.plugin = plugin;
+        this.pasta = pasta;
+        this.emEscrita = new ConcurrentHashMap<>();
+        this.pendentes = new ConcurrentHashMap<>();
+        this.escritor = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "ArteDaGuerra-Inventarios");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        int capacidade = Math.max(1, capacidadeCache);
+        this.recentes = new LinkedHashMap<String, InventorySnapshot>(capacidade * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, InventorySnapshot> maisAntiga) {
+                return size() > capacidade;
+            }
+        };
+    }
+
+    /**
+     * Guarda a cópia em memória e agenda a gravação em disco
+     */
+    public void salvar(UUID playerId, String grupo, InventorySnapshot snapshot) {
+        String chave = chave(playerId, grupo);
+
+        synchronized (recentes) {
+            recentes.put(chave, snapshot);
+        }
+        emEscrita.put(chave, snapshot);
+
+        escritor.execute(() -> {
+            try {
+                gravar(playerId, grupo, snapshot);
+                emEscrita.remove(chave, snapshot);
+            } catch (IOException e) {
+                // A cópia continua em 'emEscrita' e é tentada de novo ao desligar
+                plugin.getLogger().severe("Erro ao salvar inventário de " + playerId + " (" + grupo + "): " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Obtém a cópia sem tocar o disco
+     *
+     * @return a cópia em memória, ou null se for preciso ler do disco
+     */
+    public InventorySnapshot getEmMemoria(UUID playerId, String grupo) {
+        String chave = chave(playerId, grupo);
+
+        synchronized (recentes) {
+            InventorySnapshot snapshot = recentes.get(chave);
+            if (snapshot != null) {
+                return snapshot;
+            }
+        }
+        return emEscrita.get(chave);
+    }
+
+    /**
+     * Lê a cópia do disco fora da thread principal e entrega o resultado na thread principal
+     * Jogadores que nunca estiveram no grupo recebem {@link InventorySnapshot#VAZIO}
+     *
+     * @param aoCarregar recebe a cópia, ou null se a leitura falhou (o arquivo ilegível
+     *                   é movido para o lado, então o estado atual pode ser gravado no lugar)
+     */
+    public void carregar(UUID playerId, String grupo, Consumer<InventorySnapshot> aoCarregar) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            InventorySnapshot snapshot = getEmMemoria(playerId, grupo);
+
+            if (snapshot == null) {
+                try {
+                    snapshot = ler(playerId, grupo);
+                } catch (IOException e) {
+                    plugin.getLogger().severe("Erro ao carregar inventário de " + playerId + " (" + grupo + "): " + e.getMessage());
+                    // Na fila de escrita: fica antes de qualquer gravação nova do mesmo grupo
+                    executar(() -> separarCorrompido(playerId, grupo));
+                }
+
+                if (snapshot != null && snapshot != InventorySnapshot.VAZIO) {
+                    synchronized (recentes) {
+                        recentes.putIfAbsent(chave(playerId, grupo), snapshot);
+                    }
+                }
+            }
+
+            InventorySnapshot resultado = snapshot;
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, () -> aoCarregar.accept(resultado));
+            }
+        });
+    }
+
+    /**
+     * Grava a marcação de cópia ainda não aplicada de um jogador que saiu durante a leitura
+     */
+    public void marcarPendente(UUID playerId, String grupo) {
+        pendentes.put(playerId, grupo);
+        executar(() -> {
+            try {
+                File destino = arquivoPendente(playerId);
+                Files.createDirectories(destino.getParentFile().toPath());
+                Files.write(destino.toPath(), grupo.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                plugin.getLogger().severe("Erro ao salvar marcação de inventário de " + playerId + ": " + e.getMessage());
+            }
+            pendentes.remove(playerId, grupo);
+        });
+    }
+
+    /**
+     * Lê a marcação gravada na saída (no pré-login, fora da thread principal)
+     *
+     * @return o grupo cuja cópia ainda não foi aplicada, ou null
+     */
+    public String lerPendente(UUID playerId) {
+        String grupo = pendentes.get(playerId);
+        if (grupo != null) {
+            return grupo;
+        }
+
+        File origem = arquivoPendente(playerId);
+        if (!origem.exists()) {
+            return null;
+        }
+
+        try {
+            String lido = new String(Files.readAllBytes(origem.toPath()), StandardCharsets.UTF_8).trim();
+            return lido.isEmpty() ? null : lido;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Erro ao ler marcação de inventário de " + playerId + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Remove a marcação gravada (a cópia foi aplicada ou o jogador saiu do grupo)
+     */
+    public void limparPendente(UUID playerId) {
+        pendentes.remove(playerId);
+        executar(() -> {
+            try {
+                Files.deleteIfExists(arquivoPendente(playerId).toPath());
+            } catch (IOException e) {
+                plugin.getLogger().warning("Erro ao remover marcação de inventário de " + playerId + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Aguarda as gravações pendentes e grava o que tiver falhado (ao desligar)
+     */
+    public void finalizar() {
+        escritor.shutdown();
+        try {
+            if (!escritor.awaitTermination(10, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Gravação de inventários ainda em andamento ao desligar.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (Map.Entry<String, InventorySnapshot> entrada : emEscrita.entrySet()) {
+            String[] partes = entrada.getKey().split(":", 2);
+            try {
+                gravar(UUID.fromString(partes[0]), partes[1], entrada.getValue());
+            } catch (IOException e) {
+                plugin.getLogger().severe("Inventário perdido (" + entrada.getKey() + "): " + e.getMessage());
+            }
+        }
+
+        emEscrita.clear();
+        synchronized (recentes) {
+            recentes.clear();
+        }
+    }
+
+    private void gravar(UUID playerId, String grupo, InventorySnapshot snapshot) throws IOException {
+        File destino = arquivo(playerId, grupo);
+        File temporario = new File(destino.getParentFile(), destino.getName() + ".tmp");
+
+        Files.createDirectories(destino.getParentFile().toPath());
+        try (OutputStream saida = new BufferedOutputStream(Files.newOutputStream(temporario.toPath()))) {
+            snapshot.escrever(saida);
+        }
+
+        // Troca atômica: um arquivo pela metade nunca substitui uma cópia boa
+        Files.move(temporario.toPath(), destino.toPath(),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Move a cópia ilegível para o lado, para a equipe recuperar, liberando o grupo para uma cópia nova
+     */
+    private void separarCorrompido(UUID playerId, String grupo) {
+        File origem = arquivo(playerId, grupo);
+        File destino = new File(origem.getParentFile(), origem.getName() + ".corrompido");
+
+        try {
+            Files.move(origem.toPath(), destino.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            plugin.getLogger().warning("Inventário ilegível de " + playerId + " (" + grupo + ") movido para " + destino.getPath());
+        } catch (IOException e) {
+            plugin.getLogger().severe("Erro ao mover inventário ilegível de " + playerId + " (" + grupo + "): " + e.getMessage());
+        }
+    }
+
+    private void executar(Runnable tarefa) {
+        if (escritor.isShutdown()) {
+            tarefa.run();
+        } else {
+            escritor.execute(tarefa);
+        }
+    }
+
+    private InventorySnapshot ler(UUID playerId, String grupo) throws IOException {
+        File origem = arquivo(playerId, grupo);
+        if (!origem.exists()) {
+            return InventorySnapshot.VAZIO;
+        }
+
+        try (InputStream entrada = new BufferedInputStream(Files.newInputStream(origem.toPath()))) {
+            return InventorySnapshot.ler(entrada);
+        }
+    }
+
+    private File arquivo(UUID playerId, String grupo) {
+        return new File(new File(pasta, playerId.toString()), grupo + ".dat");
+    }
+
+    private File arquivoPendente(UUID playerId) {
+        return new File(new File(pasta, playerId.toString()), "pendente");
+    }
+
+    private static String chave(UUID playerId, String grupo) {
+        return playerId + ":" + grupo;
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.artedaguerra.lobby;
 
+import br.com.artedaguerra.era.EraRegistry;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -46,7 +47,7 @@ public class LobbyCommand implements CommandExecutor {
     }
     
     /**
-     * Executa o comando /lobby
+     * Executa o comando /lobby [numero]
      */
     private boolean executarComandoLobby(Player player, String[] args) {
         if (!player.hasPermission("artedaguerra.lobby")) {
@@ -54,7 +55,18 @@ public class LobbyCommand implements CommandExecutor {
             return true;
         }
         
-        lobbyManager.teletransportarParaLobby(player);
+        if (args.length == 0) {
+            lobbyManager.teletransportarParaLobby(player);
+            return true;
+        }
+        
+        try {
+            lobbyManager.teletransportarParaShard(player, Integer.parseInt(args[0]));
+        } catch (NumberFormatException e) {
+            player.sendMessage("§cNúmero inválido! Use /lobby [número]");
+            player.sendMessage("§7Exemplo: /lobby 2");
+        }
+        
         return true;
     }
     
@@ -76,8 +88,9 @@ public class LobbyCommand implements CommandExecutor {
         try {
             int numeroEra = Integer.parseInt(args[0]);
             
-            if (numeroEra < 1 || numeroEra > 7) {
-                player.sendMessage("§cNúmero de era inválido! Use números de 1 a 7.");
+            EraRegistry registry = lobbyManager.getPlugin().getEraRegistry();
+            if (!registry.isValida(numeroEra)) {
+                player.sendMessage("§cNúmero de era inválido! Use números de 1 a " + registry.getQuantidade() + ".");
                 return true;
             }
             
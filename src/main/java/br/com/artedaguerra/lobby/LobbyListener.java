@@ -1,21 +1,23 @@
 package br.com.artedaguerra.lobby;
 
-import org.bukkit.Material;
+import br.com.artedaguerra.cooldown.CooldownType;
+import br.com.artedaguerra.metricas.MetricType;
+import br.com.artedaguerra.metricas.PerformanceMonitor;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.block.BlockBreakEvent;
-import org.bukkit.event.block.BlockPlaceEvent;
-import org.bukkit.event.entity.EntityDamageEvent;
-import org.bukkit.event.entity.FoodLevelChangeEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
 import org.bukkit.event.player.*;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.UUID;
+
 /**
  * Listener de eventos do sistema de lobby
- * Gerencia interações, proteções e eventos especiais do lobby
+ * Gerencia interações e eventos especiais do lobby
+ * (as proteções ficam no ProtectionListener)
  * 
  * @author Arte da Guerra Team
  * @version 1.0.0-SNAPSHOT
@@ -24,10 +26,12 @@ public class LobbyListener implements Listener {
     
     private final LobbyManager lobbyManager;
     private final LobbyGUI lobbyGUI;
+    private final PerformanceMonitor metricas;
     
     public LobbyListener(LobbyManager lobbyManager) {
         this.lobbyManager = lobbyManager;
         this.lobbyGUI = new LobbyGUI(lobbyManager);
+        this.metricas = lobbyManager.getPlugin().getPerformanceMonitor();
     }
     
     /**
@@ -35,26 +39,36 @@ public class LobbyListener implements Listener {
      */
     @EventHandler
     public void onPlayerInteract(PlayerInteractEvent event) {
-        Player player = event.getPlayer();
-        ItemStack item = event.getItem();
-        
-        if (item == null || !isInLobby(player)) {
-            return;
-        }
-        
-        if (item.getType() == Material.COMPASS && 
-            item.hasItemMeta() && 
-            item.getItemMeta().getDisplayName().equals("§6Menu das Eras")) {
+        long inicio = System.nanoTime();
+        try {
+            Player player = event.getPlayer();
+            ItemStack item = event.getItem();
             
-            event.setCancelled(true);
-            lobbyGUI.abrirMenuSelecaoEras(player);
+            if (item == null || !isInLobby(player)) {
+                return;
+            }
             
-        } else if (item.getType() == Material.BOOK && 
-                   item.hasItemMeta() && 
-                   item.getItemMeta().getDisplayName().equals("§eInformações do Projeto")) {
+            NavigationItems.Tipo tipo = lobbyManager.getNavigationItems().identificar(item);
+            if (tipo == null) {
+                return;
+            }
             
             event.setCancelled(true);
-            lobbyGUI.abrirMenuInformacoes(player);
+            if (!podeAbrirMenu(player)) {
+                return;
+            }
+            
+            switch (tipo) {
+                case MENU_ERAS:
+                    lobbyGUI.abrirMenuSelecaoEras(player);
+                    break;
+                    
+                case INFORMACOES:
+                    lobbyGUI.abrirMenuInformacoes(player);
+                    break;
+            }
+        } finally {
+            metricas.registrar(MetricType.INTERACAO, inicio);
         }
     }
     
@@ -63,98 +77,43 @@ public class LobbyListener implements Listener {
      */
     @EventHandler
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getWhoClicked() instanceof Player)) {
-            return;
-        }
-        
-        Player player = (Player) event.getWhoClicked();
-        String title = event.getView().getTitle();
-        
-        // Verificar se é uma GUI do lobby
-        if (title.equals("§6Seleção de Eras") || 
-            title.equals("§eInformações do Projeto") || 
-            title.equals("§7Configurações")) {
-            
-            event.setCancelled(true);
-            lobbyGUI.gerenciarClique(player, event);
-        }
-        
-        // Proteger inventário no lobby
-        if (isInLobby(player)) {
-            event.setCancelled(true);
-        }
-    }
-    
-    /**
-     * Protege contra quebra de blocos no lobby
-     */
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onBlockBreak(BlockBreakEvent event) {
-        Player player = event.getPlayer();
-        
-        if (isInLobby(player) && lobbyManager.isProtectionEnabled()) {
-            if (!player.hasPermission("artedaguerra.admin")) {
-                event.setCancelled(true);
-                player.sendMessage("§cVocê não pode quebrar blocos no lobby!");
-            }
-        }
-    }
-    
-    /**
-     * Protege contra colocação de blocos no lobby
-     */
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onBlockPlace(BlockPlaceEvent event) {
-        Player player = event.getPlayer();
-        
-        if (isInLobby(player) && lobbyManager.isProtectionEnabled()) {
-            if (!player.hasPermission("artedaguerra.admin")) {
-                event.setCancelled(true);
-                player.sendMessage("§cVocê não pode colocar blocos no lobby!");
+        long inicio = System.nanoTime();
+        try {
+            if (!(event.getWhoClicked() instanceof Player)) {
+                return;
             }
-        }
-    }
-    
-    /**
-     * Protege contra dano no lobby
-     */
-    @EventHandler
-    public void onEntityDamage(EntityDamageEvent event) {
-        if (event.getEntity() instanceof Player) {
-            Player player = (Player) event.getEntity();
             
-            if (isInLobby(player) && lobbyManager.isProtectionEnabled()) {
+            Player player = (Player) event.getWhoClicked();
+            InventoryHolder holder = event.getView().getTopInventory().getHolder();
+            
+            // Verificar se é uma GUI do lobby
+            if (holder instanceof LobbyMenu) {
                 event.setCancelled(true);
+                lobbyGUI.gerenciarClique(player, (LobbyMenu) holder, event);
+                return;
             }
-        }
-    }
-    
-    /**
-     * Protege contra fome no lobby
-     */
-    @EventHandler
-    public void onFoodLevelChange(FoodLevelChangeEvent event) {
-        if (event.getEntity() instanceof Player) {
-            Player player = (Player) event.getEntity();
             
-            if (isInLobby(player) && lobbyManager.isProtectionEnabled()) {
+            // Proteger inventário no lobby
+            if (isInLobby(player)) {
                 event.setCancelled(true);
-                player.setFoodLevel(20);
             }
+        } finally {
+            metricas.registrar(MetricType.CLIQUE_INVENTARIO, inicio);
         }
     }
     
     /**
-     * Protege contra drop de itens no lobby
+     * Impede arrastar itens para dentro das GUIs do lobby
      */
     @EventHandler
-    public void onPlayerDropItem(PlayerDropItemEvent event) {
-        Player player = event.getPlayer();
-        
-        if (isInLobby(player) && lobbyManager.isProtectionEnabled()) {
-            if (!player.hasPermission("artedaguerra.admin")) {
+    public void onInventoryDrag(InventoryDragEvent event) {
+        long inicio = System.nanoTime();
+        try {
+            if (event.getView().getTopInventory().getHolder() instanceof LobbyMenu) {
                 event.setCancelled(true);
             }
+        } finally {
+            metricas.registrar(MetricType.ARRASTE_INVENTARIO, inicio);
         }
     }
     
@@ -163,57 +122,64 @@ public class LobbyListener implements Listener {
      */
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        Player player = event.getPlayer();
-        
-        if (isInLobby(player) && lobbyManager.isNavigationItemsEnabled()) {
-            lobbyManager.fornecerItensNavegacao(player);
+        long inicio = System.nanoTime();
+        try {
+            Player player = event.getPlayer();
+            
+            if (!isInLobby(player)) {
+                return;
+            }
+            
+            if (lobbyManager.isNavigationItemsEnabled()) {
+                lobbyManager.fornecerItensNavegacao(player);
+            }
+            
+            // Leva o jogador para a instância menos cheia, se houver uma
+            lobbyManager.rotearEntrada(player);
+        } finally {
+            metricas.registrar(MetricType.ENTRADA, inicio);
         }
     }
     
     /**
-     * Detecta movimento para mostrar informações de proximidade
+     * Limpa o estado do jogador ao sair do servidor
      */
     @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
-        
-        if (!isInLobby(player)) {
-            return;
-        }
-        
-        // Verificar proximidade com áreas das eras
-        for (int era = 1; era <= 7; era++) {
-            if (lobbyManager.getEraLocations().containsKey(era)) {
-                double distance = player.getLocation().distance(lobbyManager.getEraLocations().get(era));
-                
-                if (distance <= 3.0) {
-                    mostrarInformacaoEra(player, era);
-                    break;
-                }
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        long inicio = System.nanoTime();
+        try {
+            UUID playerId = event.getPlayer().getUniqueId();
+            ProximityScanner scanner = lobbyManager.getProximityScanner();
+            
+            if (scanner != null) {
+                scanner.remover(playerId);
+            }
+            
+            lobbyManager.getCooldownManager().remover(playerId);
+            
+            if (lobbyManager.getTeleportPipeline() != null) {
+                lobbyManager.getTeleportPipeline().remover(playerId);
             }
+        } finally {
+            metricas.registrar(MetricType.SAIDA, inicio);
         }
     }
     
     /**
-     * Mostra informações de uma era quando o jogador se aproxima
+     * Evita que cliques repetidos no item abram o menu várias vezes seguidas
      */
-    private void mostrarInformacaoEra(Player player, int era) {
-        String nome = lobbyManager.obterNomeEra(era);
-        String periodo = lobbyManager.obterPeriodoEra(era);
-        boolean temAcesso = lobbyManager.verificarAcessoEra(player, era);
-        
-        player.sendActionBar("§6Era " + era + ": " + nome + " §7(" + periodo + ") " + 
-                           (temAcesso ? "§a[Clique para entrar]" : "§c[Bloqueada]"));
+    private boolean podeAbrirMenu(Player player) {
+        if (lobbyManager.getCooldownManager().tentarAplicar(player.getUniqueId(), CooldownType.GUI)) {
+            return true;
+        }
+        metricas.registrarRejeicaoCooldown(CooldownType.GUI);
+        return false;
     }
     
     /**
      * Verifica se o jogador está no lobby
      */
     private boolean isInLobby(Player player) {
-        if (lobbyManager.getLobbySpawn() == null) {
-            return false;
-        }
-        
-        return player.getWorld().equals(lobbyManager.getLobbySpawn().getWorld());
+        return lobbyManager.isNoLobby(player);
     }
 }
\ No newline at end of file
@@ -1,12 +1,18 @@
 package br.com.artedaguerra.lobby;
 
 import br.com.artedaguerra.ArteDaGuerraCore;
+import br.com.artedaguerra.cooldown.CooldownManager;
+import br.com.artedaguerra.cooldown.CooldownType;
+import br.com.artedaguerra.economia.EconomyService;
+import br.com.artedaguerra.economia.LedgerEntry;
+import br.com.artedaguerra.era.EraDefinition;
+import br.com.artedaguerra.era.EraRegistry;
+import br.com.artedaguerra.era.EraWorldManager;
+import br.com.artedaguerra.teleporte.TeleportPipeline;
 import org.bukkit.*;
 import org.bukkit.block.Block;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
@@ -22,19 +28,44 @@ public class LobbyManager {
     
     private final ArteDaGuerraCore plugin;
     private Location lobbySpawn;
+    private final List<LobbyShard> shards;
     private final Map<Integer, Location> eraLocations;
-    private final Map<UUID, Long> teleportCooldowns;
+    private final CooldownManager cooldownManager;
+    private final NavigationItems navigationItems;
+    private final LobbyMembership membership;
+    private final Set<UUID> aguardandoMundo; // jogadores esperando o mundo de uma era carregar
+    private ZoneIndex zoneIndex = ZoneIndex.VAZIO;
+    private ProximityScanner proximityScanner;
+    private StructureBuilder construcaoLobby;
+    private TeleportPipeline teleportPipeline;
+    private RegionProtection regionProtection;
     
     // Configurações
     private String lobbyWorldName;
-    private int teleportCooldown;
+    private int shardsQuantidade;
+    private int shardsCapacidade;
+    private double taxaEscolhaShard;
+    private double teleportCooldown;
+    private double eraCooldown;
+    private double guiCooldown;
     private boolean protectionEnabled;
+    private boolean protecaoPlataformas;
     private boolean navigationItemsEnabled;
+    private int scannerIntervalo;
+    private int scannerRefresh;
+    private double construcaoOrcamentoMs;
+    private boolean construcaoModoDiff;
+    private int teleporteAdmissoesPorTick;
+    private int teleporteRaioChunks;
     
     public LobbyManager(ArteDaGuerraCore plugin) {
         this.plugin = plugin;
         this.eraLocations = new HashMap<>();
-        this.teleportCooldowns = new HashMap<>();
+        this.shards = new ArrayList<>();
+        this.cooldownManager = new CooldownManager();
+        this.navigationItems = new NavigationItems(plugin);
+        this.membership = new LobbyMembership();
+        this.aguardandoMundo = new HashSet<>();
         
         carregarConfiguracoes();
     }
@@ -44,9 +75,16 @@ public class LobbyManager {
      */
     public void inicializar() {
         carregarConfiguracoes();
-        configurarLobbySpawn();
+        
+        teleportPipeline = new TeleportPipeline(plugin, plugin.getPerformanceMonitor(), teleporteAdmissoesPorTick, teleporteRaioChunks);
+        teleportPipeline.iniciar();
+        
+        configurarShards();
+        configurarMembros();
         configurarEraLocations();
+        configurarZonas();
         criarEstruturasLobby();
+        iniciarScannerProximidade();
         
         plugin.getLogger().info("Sistema de Lobby inicializado com sucesso!");
     }
@@ -55,8 +93,27 @@ public class LobbyManager {
      * Finaliza o sistema de lobby
      */
     public void finalizar() {
-        teleportCooldowns.clear();
+        if (proximityScanner != null) {
+            proximityScanner.cancel();
+            proximityScanner = null;
+        }
+        
+        if (construcaoLobby != null) {
+            construcaoLobby.interromper();
+            construcaoLobby = null;
+        }
+        
+        if (teleportPipeline != null) {
+            teleportPipeline.cancel();
+            teleportPipeline.limpar();
+            teleportPipeline = null;
+        }
+        
+        cooldownManager.limpar();
+        membership.limpar();
+        aguardandoMundo.clear();
         eraLocations.clear();
+        shards.clear();
         
         plugin.getLogger().info("Sistema de Lobby finalizado!");
     }
@@ -66,39 +123,91 @@ public class LobbyManager {
      */
     private void carregarConfiguracoes() {
         lobbyWorldName = plugin.getConfig().getString("lobby.mundo_nome", "lobby");
-        teleportCooldown = plugin.getConfig().getInt("lobby.teleport_cooldown", 3);
+        shardsQuantidade = Math.max(1, plugin.getConfig().getInt("lobby.shards.quantidade", 1));
+        shardsCapacidade = plugin.getConfig().getInt("lobby.shards.capacidade", 0);
+        taxaEscolhaShard = plugin.getConfig().getDouble("economia.taxa_escolha_lobby", 0);
+        teleportCooldown = plugin.getConfig().getDouble("lobby.teleport_cooldown", 3);
+        eraCooldown = plugin.getConfig().getDouble("lobby.cooldowns.era", teleportCooldown);
+        guiCooldown = plugin.getConfig().getDouble("lobby.cooldowns.gui", 0.5);
         protectionEnabled = plugin.getConfig().getBoolean("lobby.protecao_ativada", true);
+        protecaoPlataformas = plugin.getConfig().getBoolean("lobby.protecao_plataformas", true);
         navigationItemsEnabled = plugin.getConfig().getBoolean("lobby.itens_navegacao", true);
+        scannerIntervalo = plugin.getConfig().getInt("lobby.scanner.intervalo", 5);
+        scannerRefresh = plugin.getConfig().getInt("lobby.scanner.refresh_actionbar", 40);
+        construcaoOrcamentoMs = plugin.getConfig().getDouble("lobby.construcao.orcamento_ms", 5.0);
+        construcaoModoDiff = plugin.getConfig().getBoolean("lobby.construcao.modo_diff", true);
+        
+        teleporteAdmissoesPorTick = plugin.getConfig().getInt("teleporte.admissoes_por_tick", 5);
+        teleporteRaioChunks = plugin.getConfig().getInt("teleporte.raio_chunks", 1);
+        
+        cooldownManager.configurar(CooldownType.LOBBY, (long) (teleportCooldown * 1000));
+        cooldownManager.configurar(CooldownType.ERA, (long) (eraCooldown * 1000));
+        cooldownManager.configurar(CooldownType.GUI, (long) (guiCooldown * 1000));
     }
     
     /**
-     * Configura o spawn do lobby
+     * Configura as instâncias (shards) do lobby e seus spawns
+     * A instância 1 é o mundo_nome; as demais são mundo_nome_2, mundo_nome_3...,
+     * todas com o mesmo layout e as mesmas coordenadas de spawn
      */
-    private void configurarLobbySpawn() {
-        World lobbyWorld = Bukkit.getWorld(lobbyWorldName);
+    private void configurarShards() {
+        shards.clear();
+        lobbySpawn = null;
         
-        if (lobbyWorld == null) {
-            plugin.getLogger().warning("Mundo do lobby '" + lobbyWorldName + "' não encontrado! Criando...");
-            lobbyWorld = criarMundoLobby();
-        }
+        double x = plugin.getConfig().getDouble("lobby.spawn_x", 0);
+        double y = plugin.getConfig().getDouble("lobby.spawn_y", 100);
+        double z = plugin.getConfig().getDouble("lobby.spawn_z", 0);
         
-        if (lobbyWorld != null) {
-            double x = plugin.getConfig().getDouble("lobby.spawn_x", 0);
-            double y = plugin.getConfig().getDouble("lobby.spawn_y", 100);
-            double z = plugin.getConfig().getDouble("lobby.spawn_z", 0);
+        for (int numero = 1; numero <= shardsQuantidade; numero++) {
+            String nome = numero == 1 ? lobbyWorldName : lobbyWorldName + "_" + numero;
+            World lobbyWorld = Bukkit.getWorld(nome);
+            
+            if (lobbyWorld == null) {
+                plugin.getLogger().warning("Mundo do lobby '" + nome + "' não encontrado! Criando...");
+                lobbyWorld = criarMundoLobby(nome);
+            }
+            
+            if (lobbyWorld == null) continue;
             
-            lobbySpawn = new Location(lobbyWorld, x, y, z);
-            lobbySpawn.setYaw(0);
-            lobbySpawn.setPitch(0);
+            Location spawn = new Location(lobbyWorld, x, y, z);
+            spawn.setYaw(0);
+            spawn.setPitch(0);
+            shards.add(new LobbyShard(numero, lobbyWorld, spawn));
+        }
+        
+        // O spawn principal continua sendo o da primeira instância
+        if (!shards.isEmpty()) {
+            lobbySpawn = shards.get(0).getSpawn();
+        }
+        
+        if (shards.size() > 1) {
+            plugin.getLogger().info("Lobby distribuído em " + shards.size() + " instâncias.");
+        }
+    }
+    
+    /**
+     * Define os mundos de lobby (as instâncias e os extras de lobby.mundos)
+     * e registra os jogadores que já estão neles (ex.: após um reload do servidor)
+     */
+    private void configurarMembros() {
+        List<String> mundos = new ArrayList<>(plugin.getConfig().getStringList("lobby.mundos"));
+        mundos.add(lobbyWorldName);
+        for (LobbyShard shard : shards) {
+            mundos.add(shard.getWorldName());
+        }
+        membership.definirMundos(mundos);
+        
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            membership.atualizar(player, player.getWorld());
         }
     }
     
     /**
      * Cria o mundo do lobby se não existir
      */
-    private World criarMundoLobby() {
+    private World criarMundoLobby(String nome) {
         try {
-            WorldCreator creator = new WorldCreator(lobbyWorldName);
+            WorldCreator creator = new WorldCreator(nome);
             creator.type(WorldType.FLAT);
             creator.generateStructures(false);
             
@@ -114,7 +223,7 @@ public class LobbyManager {
                 world.setGameRule(GameRule.DO_MOB_SPAWNING, false);
                 world.setTime(6000); // Meio-dia
                 
-                plugin.getLogger().info("Mundo do lobby criado com sucesso!");
+                plugin.getLogger().info("Mundo do lobby '" + nome + "' criado com sucesso!");
             }
             
             return world;
@@ -131,12 +240,14 @@ public class LobbyManager {
         if (lobbySpawn == null) return;
         
         World lobbyWorld = lobbySpawn.getWorld();
+        int quantidade = plugin.getEraRegistry().getQuantidade();
+        if (quantidade == 0) return;
         
         // Configurar localizações em círculo ao redor do spawn
         double radius = 20.0;
-        double angleStep = 360.0 / 7.0; // 7 eras
+        double angleStep = 360.0 / quantidade;
         
-        for (int era = 1; era <= 7; era++) {
+        for (int era = 1; era <= quantidade; era++) {
             double angle = Math.toRadians((era - 1) * angleStep);
             double x = lobbySpawn.getX() + (radius * Math.cos(angle));
             double z = lobbySpawn.getZ() + (radius * Math.sin(angle));
@@ -147,26 +258,91 @@ public class LobbyManager {
         }
     }
     
+    /**
+     * Monta o índice de zonas do lobby: as plataformas das eras
+     * e as zonas extras definidas em lobby.zonas (lojas, NPCs, portais...)
+     */
+    private void configurarZonas() {
+        ZoneIndex.Builder builder = new ZoneIndex.Builder();
+        
+        // Plataformas das eras (mesmo raio da detecção original)
+        for (Map.Entry<Integer, Location> entry : eraLocations.entrySet()) {
+            Location local = entry.getValue();
+            builder.adicionar(LobbyZone.circular("era_" + entry.getKey(), entry.getKey(), null,
+                local.getX(), local.getY(), local.getZ(), 3.0, 3.0));
+        }
+        
+        // Zonas extras
+        ConfigurationSection secao = plugin.getConfig().getConfigurationSection("lobby.zonas");
+        if (secao != null) {
+            for (String id : secao.getKeys(false)) {
+                ConfigurationSection zona = secao.getConfigurationSection(id);
+                if (zona == null) continue;
+                
+                String mensagem = zona.getString("mensagem");
+                String forma = zona.getString("forma", "circular");
+                
+                if (forma.equalsIgnoreCase("retangular")) {
+                    builder.adicionar(LobbyZone.retangular(id, 0, mensagem,
+                        zona.getDouble("x1"), zona.getDouble("y1"), zona.getDouble("z1"),
+                        zona.getDouble("x2"), zona.getDouble("y2"), zona.getDouble("z2")));
+                } else {
+                    builder.adicionar(LobbyZone.circular(id, 0, mensagem,
+                        zona.getDouble("x"), zona.getDouble("y"), zona.getDouble("z"),
+                        zona.getDouble("raio", 3.0), zona.getDouble("altura", 3.0)));
+                }
+            }
+        }
+        
+        try {
+            zoneIndex = builder.build();
+        } catch (IllegalStateException e) {
+            plugin.getLogger().severe("Erro ao montar zonas do lobby: " + e.getMessage());
+            zoneIndex = ZoneIndex.VAZIO;
+        }
+    }
+    
+    /**
+     * Inicia a varredura periódica de proximidade com as zonas
+     */
+    private void iniciarScannerProximidade() {
+        if (lobbySpawn == null) return;
+        
+        proximityScanner = new ProximityScanner(this, scannerIntervalo, scannerRefresh);
+        proximityScanner.runTaskTimer(plugin, 1L, 1L);
+    }
+    
     /**
      * Cria as estruturas temáticas do lobby
+     * Os blocos são enfileirados e colocados aos poucos, sem travar a inicialização
      */
     private void criarEstruturasLobby() {
         if (lobbySpawn == null) return;
         
-        // Criar plataforma central
-        criarPlataformaCentral();
+        StructureBuilder construtor = new StructureBuilder(plugin, plugin.getPerformanceMonitor(), "lobby", construcaoOrcamentoMs, construcaoModoDiff);
         
-        // Criar áreas temáticas das eras
-        for (int era = 1; era <= 7; era++) {
-            criarAreaTematica(era);
+        // Todas as instâncias recebem o mesmo layout
+        for (LobbyShard shard : shards) {
+            World world = shard.getWorld();
+            
+            // Criar plataforma central
+            criarPlataformaCentral(construtor, world);
+            
+            // Criar áreas temáticas das eras
+            for (int era = 1; era <= plugin.getEraRegistry().getQuantidade(); era++) {
+                criarAreaTematica(construtor, world, era);
+            }
         }
+        
+        construcaoLobby = construtor;
+        construtor.aoConcluir(() -> plugin.getLogger().info("Estruturas do lobby prontas!"));
+        construtor.iniciar();
     }
     
     /**
      * Cria a plataforma central do lobby
      */
-    private void criarPlataformaCentral() {
-        World world = lobbySpawn.getWorld();
+    private void criarPlataformaCentral(StructureBuilder construtor, World world) {
         int centerX = lobbySpawn.getBlockX();
         int centerY = lobbySpawn.getBlockY() - 1;
         int centerZ = lobbySpawn.getBlockZ();
@@ -176,206 +352,403 @@ public class LobbyManager {
             for (int z = -5; z <= 5; z++) {
                 double distance = Math.sqrt(x * x + z * z);
                 if (distance <= 5) {
-                    Block block = world.getBlockAt(centerX + x, centerY, centerZ + z);
-                    block.setType(Material.QUARTZ_BLOCK);
+                    construtor.definir(world, centerX + x, centerY, centerZ + z, Material.QUARTZ_BLOCK);
                 }
             }
         }
         
         // Adicionar decorações
-        Block centerBlock = world.getBlockAt(centerX, centerY + 1, centerZ);
-        centerBlock.setType(Material.BEACON);
+        construtor.definir(world, centerX, centerY + 1, centerZ, Material.BEACON);
     }
     
     /**
      * Cria uma área temática para uma era específica
      */
-    private void criarAreaTematica(int era) {
+    private void criarAreaTematica(StructureBuilder construtor, World world, int era) {
         Location eraLocation = eraLocations.get(era);
         if (eraLocation == null) return;
         
-        World world = eraLocation.getWorld();
         int x = eraLocation.getBlockX();
         int y = eraLocation.getBlockY() - 1;
         int z = eraLocation.getBlockZ();
         
         // Material base da era
-        Material baseMaterial = obterMaterialEra(era);
+        Material baseMaterial = plugin.getEraRegistry().getEra(era).getMaterialPlataforma();
         
         // Criar plataforma da era
         for (int dx = -3; dx <= 3; dx++) {
             for (int dz = -3; dz <= 3; dz++) {
-                Block block = world.getBlockAt(x + dx, y, z + dz);
-                block.setType(baseMaterial);
+                construtor.definir(world, x + dx, y, z + dz, baseMaterial);
             }
         }
         
         // Adicionar estrutura temática
-        criarEstruturaTematica(era, eraLocation);
-    }
-    
-    /**
-     * Obtém o material base para uma era
-     */
-    private Material obterMaterialEra(int era) {
-        switch (era) {
-            case 1: return Material.DIRT; // Primitiva
-            case 2: return Material.STONE; // Pós-Primitiva
-            case 3: return Material.COBBLESTONE; // Medieval
-            case 4: return Material.IRON_BLOCK; // Industrial
-            case 5: return Material.WHITE_CONCRETE; // Moderna
-            case 6: return Material.REDSTONE_BLOCK; // Contemporânea
-            case 7: return Material.DIAMOND_BLOCK; // Futurista
-            default: return Material.STONE;
-        }
+        criarEstruturaTematica(construtor, world, era, eraLocation);
     }
     
     /**
      * Cria estrutura temática específica da era
      */
-    private void criarEstruturaTematica(int era, Location location) {
-        World world = location.getWorld();
+    private void criarEstruturaTematica(StructureBuilder construtor, World world, int era, Location location) {
         int x = location.getBlockX();
         int y = location.getBlockY();
         int z = location.getBlockZ();
         
         switch (era) {
             case 1: // Primitiva - Fogueira
-                world.getBlockAt(x, y, z).setType(Material.CAMPFIRE);
+                construtor.definir(world, x, y, z, Material.CAMPFIRE);
                 break;
                 
             case 2: // Pós-Primitiva - Altar de pedra
-                world.getBlockAt(x, y, z).setType(Material.STONE_SLAB);
-                world.getBlockAt(x, y + 1, z).setType(Material.TORCH);
+                construtor.definir(world, x, y, z, Material.STONE_SLAB);
+                construtor.definir(world, x, y + 1, z, Material.TORCH);
                 break;
                 
             case 3: // Medieval - Torre
                 for (int i = 0; i < 3; i++) {
-                    world.getBlockAt(x, y + i, z).setType(Material.COBBLESTONE);
+                    construtor.definir(world, x, y + i, z, Material.COBBLESTONE);
                 }
-                world.getBlockAt(x, y + 3, z).setType(Material.COBBLESTONE_STAIRS);
+                construtor.definir(world, x, y + 3, z, Material.COBBLESTONE_STAIRS);
                 break;
                 
             case 4: // Industrial - Chaminé
                 for (int i = 0; i < 4; i++) {
-                    world.getBlockAt(x, y + i, z).setType(Material.BRICK_STAIRS);
+                    construtor.definir(world, x, y + i, z, Material.BRICK_STAIRS);
                 }
                 break;
                 
             case 5: // Moderna - Prédio
-                world.getBlockAt(x, y, z).setType(Material.WHITE_CONCRETE);
-                world.getBlockAt(x, y + 1, z).setType(Material.GLASS);
-                world.getBlockAt(x, y + 2, z).setType(Material.WHITE_CONCRETE);
+                construtor.definir(world, x, y, z, Material.WHITE_CONCRETE);
+                construtor.definir(world, x, y + 1, z, Material.GLASS);
+                construtor.definir(world, x, y + 2, z, Material.WHITE_CONCRETE);
                 break;
                 
             case 6: // Contemporânea - Antena
-                world.getBlockAt(x, y, z).setType(Material.REDSTONE_BLOCK);
-                world.getBlockAt(x, y + 1, z).setType(Material.IRON_BARS);
-                world.getBlockAt(x, y + 2, z).setType(Material.IRON_BARS);
+                construtor.definir(world, x, y, z, Material.REDSTONE_BLOCK);
+                construtor.definir(world, x, y + 1, z, Material.IRON_BARS);
+                construtor.definir(world, x, y + 2, z, Material.IRON_BARS);
                 break;
                 
             case 7: // Futurista - Portal
-                world.getBlockAt(x, y, z).setType(Material.DIAMOND_BLOCK);
-                world.getBlockAt(x, y + 1, z).setType(Material.END_ROD);
+                construtor.definir(world, x, y, z, Material.DIAMOND_BLOCK);
+                construtor.definir(world, x, y + 1, z, Material.END_ROD);
                 break;
         }
     }
     
     /**
      * Teletransporta um jogador para o lobby
+     * Quem já está em uma instância volta ao spawn dela; os demais vão para a menos cheia
      */
     public boolean teletransportarParaLobby(Player player) {
-        if (lobbySpawn == null) {
+        LobbyShard shard = getShard(player.getWorld());
+        if (shard == null) {
+            shard = escolherShard();
+        }
+        
+        if (shard == null) {
             player.sendMessage("§cLobby não configurado!");
             return false;
         }
         
-        if (!verificarCooldown(player)) {
+        return teletransportarParaShard(player, shard, 0);
+    }
+    
+    /**
+     * Teletransporta um jogador para uma instância específica do lobby (/lobby <n>)
+     * Instâncias acima da capacidade só aceitam administradores
+     */
+    public boolean teletransportarParaShard(Player player, int numero) {
+        if (numero < 1 || numero > shards.size()) {
+            player.sendMessage("§cLobby inválido! Use números de 1 a " + shards.size() + ".");
             return false;
         }
         
-        player.teleport(lobbySpawn);
+        LobbyShard shard = shards.get(numero - 1);
+        
+        if (shard == getShard(player.getWorld())) {
+            player.sendMessage("§cVocê já está no Lobby " + numero + "!");
+            return false;
+        }
         
-        if (navigationItemsEnabled) {
-            fornecerItensNavegacao(player);
+        if (isLotado(shard) && !player.hasPermission("artedaguerra.admin")) {
+            player.sendMessage("§cO Lobby " + numero + " está cheio! Tente outro.");
+            return false;
         }
         
-        player.sendMessage("§aBem-vindo ao Lobby das 7 Eras!");
-        player.sendMessage("§7Explore as diferentes eras da humanidade!");
+        return teletransportarParaShard(player, shard, taxaEscolhaShard);
+    }
+    
+    private boolean teletransportarParaShard(Player player, LobbyShard shard, double taxa) {
+        if (!verificarCooldown(player, CooldownType.LOBBY)) {
+            return false;
+        }
         
-        aplicarCooldown(player);
+        LedgerEntry cobranca = reservarTaxa(player, taxa, "lobby_" + shard.getNumero());
+        if (cobranca == null) {
+            return false;
+        }
+        
+        boolean aceito = teleportPipeline.solicitar(player, shard.getSpawn(), sucesso -> {
+            concluirTaxa(player, cobranca, sucesso);
+            if (!sucesso) return;
+            
+            plugin.getPerformanceMonitor().registrarTeleporte(0);
+            
+            if (navigationItemsEnabled) {
+                fornecerItensNavegacao(player);
+            }
+            
+            player.sendMessage("§aBem-vindo ao Lobby das 7 Eras!");
+            if (shards.size() > 1) {
+                player.sendMessage("§7Você está no Lobby " + shard.getNumero() + " de " + shards.size() + ".");
+            }
+            player.sendMessage("§7Explore as diferentes eras da humanidade!");
+        });
+        
+        if (!aceito) {
+            concluirTaxa(player, cobranca, false);
+            return false;
+        }
+        
+        aplicarCooldown(player, CooldownType.LOBBY);
         return true;
     }
     
+    /**
+     * Redistribui um jogador que entrou no servidor já dentro de uma instância
+     * Se outra instância estiver mais vazia, ele é levado para lá (sem cooldown)
+     */
+    public void rotearEntrada(Player player) {
+        if (shards.size() < 2) return;
+        
+        LobbyShard atual = getShard(player.getWorld());
+        if (atual == null) return;
+        
+        LobbyShard destino = escolherShard();
+        if (destino == null || destino == atual) return;
+        
+        // O próprio jogador já conta na instância atual
+        if (getPopulacao(destino) >= getPopulacao(atual) - 1) return;
+        
+        Location spawn = destino.getSpawn();
+        teleportPipeline.solicitar(player, spawn, sucesso -> {
+            if (sucesso && navigationItemsEnabled) {
+                fornecerItensNavegacao(player);
+            }
+        });
+    }
+    
+    /**
+     * Escolhe a instância menos cheia (a capacidade é um limite suave e não bloqueia o roteamento)
+     */
+    public LobbyShard escolherShard() {
+        LobbyShard escolhida = null;
+        int menorPopulacao = Integer.MAX_VALUE;
+        
+        for (LobbyShard shard : shards) {
+            int populacao = getPopulacao(shard);
+            if (populacao < menorPopulacao) {
+                escolhida = shard;
+                menorPopulacao = populacao;
+            }
+        }
+        
+        return escolhida;
+    }
+    
+    /**
+     * Obtém a instância do lobby correspondente a um mundo
+     *
+     * @return a instância, ou null se o mundo não for uma instância do lobby
+     */
+    public LobbyShard getShard(World world) {
+        if (world == null) return null;
+        
+        for (LobbyShard shard : shards) {
+            if (shard.getWorld() == world) {
+                return shard;
+            }
+        }
+        return null;
+    }
+    
+    public int getPopulacao(LobbyShard shard) {
+        return membership.getQuantidade(shard.getWorldName());
+    }
+    
+    /**
+     * Verifica se a instância atingiu a capacidade (limite suave; 0 = sem limite)
+     */
+    public boolean isLotado(LobbyShard shard) {
+        return shardsCapacidade > 0 && getPopulacao(shard) >= shardsCapacidade;
+    }
+    
     /**
      * Teletransporta um jogador para uma era específica
      */
     public boolean teletransportarParaEra(Player player, int era) {
-        if (era < 1 || era > 7) {
-            player.sendMessage("§cEra inválida! Use números de 1 a 7.");
+        EraRegistry registry = plugin.getEraRegistry();
+        EraDefinition definicao = registry.getEra(era);
+        
+        if (definicao == null) {
+            player.sendMessage("§cEra inválida! Use números de 1 a " + registry.getQuantidade() + ".");
             return false;
         }
         
-        if (!verificarAcessoEra(player, era)) {
+        if (!verificarAcessoEra(player, definicao)) {
             player.sendMessage("§cVocê não tem acesso a esta era!");
             return false;
         }
         
-        if (!verificarCooldown(player)) {
+        if (!verificarCooldown(player, CooldownType.ERA)) {
             return false;
         }
         
-        String nomeEra = obterNomeEra(era);
-        String mundoEra = plugin.getConfig().getString("eras.era_" + era + ".mundo");
-        
-        if (mundoEra == null) {
+        if (definicao.getMundoNome() == null) {
             player.sendMessage("§cMundo da era não configurado!");
             return false;
         }
         
-        World world = Bukkit.getWorld(mundoEra);
+        EraWorldManager mundos = plugin.getEraWorldManager();
+        World world = mundos != null ? mundos.usar(definicao) : definicao.getMundo();
+        if (world == null && mundos != null) {
+            return carregarEViajar(player, definicao, mundos);
+        }
+        
         if (world == null) {
-            player.sendMessage("§cMundo da era '" + mundoEra + "' não encontrado!");
+            player.sendMessage("§cMundo da era '" + definicao.getMundoNome() + "' não encontrado!");
             return false;
         }
         
-        Location spawnEra = world.getSpawnLocation();
-        player.teleport(spawnEra);
+        return viajarParaEra(player, definicao, world);
+    }
+    
+    /**
+     * Carrega o mundo da era (primeiro acesso ou após ficar ocioso) e leva o jogador quando estiver pronto
+     * O cooldown e a taxa só são aplicados na viagem; se o jogador trocar de mundo
+     * enquanto espera (outra era, /lobby), a viagem é descartada
+     */
+    private boolean carregarEViajar(Player player, EraDefinition definicao, EraWorldManager mundos) {
+        UUID playerId = player.getUniqueId();
+        if (!aguardandoMundo.add(playerId)) {
+            player.sendMessage("§eAguarde, uma era ainda está carregando para você.");
+            return false;
+        }
         
-        player.sendMessage("§aBem-vindo à Era " + era + ": " + nomeEra + "!");
+        World origem = player.getWorld();
+        mundos.solicitar(definicao, world -> {
+            aguardandoMundo.remove(playerId);
+            if (!player.isOnline() || player.getWorld() != origem) return;
+            
+            if (world == null) {
+                player.sendMessage("§cMundo da era '" + definicao.getMundoNome() + "' não encontrado!");
+                return;
+            }
+            viajarParaEra(player, definicao, world);
+        });
         
-        aplicarCooldown(player);
+        if (mundos.getEstado(definicao) == EraWorldManager.Estado.CARREGANDO) {
+            player.sendMessage("§eCarregando a " + definicao.getTitulo() + "... §7você será levado assim que estiver pronta.");
+        }
         return true;
     }
     
     /**
-     * Verifica se o jogador tem acesso a uma era
+     * Cobra a taxa e coloca o jogador na fila de teletransporte para o spawn da era
      */
-    public boolean verificarAcessoEra(Player player, int era) {
-        // Verificar permissão
-        if (!player.hasPermission("artedaguerra.era." + era)) {
+    private boolean viajarParaEra(Player player, EraDefinition definicao, World world) {
+        LedgerEntry cobranca = reservarTaxa(player, definicao.getTaxa(), "era_" + definicao.getNumero());
+        if (cobranca == null) {
+            return false;
+        }
+        
+        Location spawnEra = world.getSpawnLocation();
+        boolean aceito = teleportPipeline.solicitar(player, spawnEra, sucesso -> {
+            concluirTaxa(player, cobranca, sucesso);
+            if (sucesso) {
+                plugin.getPerformanceMonitor().registrarTeleporte(definicao.getNumero());
+                player.sendMessage(definicao.getMensagemBoasVindas());
+            }
+        });
+        
+        if (!aceito) {
+            concluirTaxa(player, cobranca, false);
             return false;
         }
         
-        // Verificar se a era está desbloqueada
-        boolean desbloqueada = plugin.getConfig().getBoolean("eras.era_" + era + ".desbloqueada", false);
-        return desbloqueada;
+        aplicarCooldown(player, CooldownType.ERA);
+        return true;
+    }
+    
+    /**
+     * Reserva a taxa da viagem no saldo em cache, sem esperar pelo plugin de economia
+     *
+     * @return o lançamento (ISENTO se não houver cobrança), ou null se o jogador não puder pagar agora
+     */
+    private LedgerEntry reservarTaxa(Player player, double taxa, String motivo) {
+        EconomyService economia = plugin.getEconomyService();
+        if (economia == null || taxa <= 0) {
+            return LedgerEntry.ISENTO;
+        }
+        return economia.reservar(player, taxa, motivo);
+    }
+    
+    /**
+     * Confirma a cobrança se o teletransporte concluiu; caso contrário, estorna a reserva
+     */
+    private void concluirTaxa(Player player, LedgerEntry cobranca, boolean sucesso) {
+        EconomyService economia = plugin.getEconomyService();
+        if (economia == null || cobranca.isIsento()) return;
+        
+        if (sucesso) {
+            economia.confirmar(cobranca);
+            player.sendMessage("§7Taxa cobrada: §e" + EconomyService.formatar(cobranca.getValor()));
+        } else {
+            economia.estornar(cobranca);
+        }
+    }
+    
+    /**
+     * Máscara das eras cujo mundo está sendo carregado (bit N-1 = era N)
+     */
+    public int getMascaraCarregando() {
+        EraWorldManager mundos = plugin.getEraWorldManager();
+        return mundos != null ? mundos.getMascaraCarregando() : 0;
+    }
+    
+    /**
+     * Verifica se o jogador tem acesso a uma era
+     */
+    public boolean verificarAcessoEra(Player player, int era) {
+        return plugin.getEraAccessCache().temAcesso(player, era);
+    }
+    
+    /**
+     * Obtém a máscara de acesso do jogador (bit N-1 ligado = acesso à era N)
+     */
+    public int calcularMascaraAcesso(Player player) {
+        return plugin.getEraAccessCache().getMascara(player);
+    }
+    
+    /**
+     * Verifica se o jogador tem acesso a uma era já resolvida no registro
+     */
+    private boolean verificarAcessoEra(Player player, EraDefinition definicao) {
+        return verificarAcessoEra(player, definicao.getNumero());
     }
     
     /**
      * Verifica o cooldown de teletransporte
      */
-    private boolean verificarCooldown(Player player) {
-        UUID playerId = player.getUniqueId();
+    private boolean verificarCooldown(Player player, CooldownType tipo) {
+        long tempoRestante = cooldownManager.getRestanteNanos(player.getUniqueId(), tipo);
         
-        if (teleportCooldowns.containsKey(playerId)) {
-            long tempoRestante = (teleportCooldowns.get(playerId) + (teleportCooldown * 1000)) - System.currentTimeMillis();
-            
-            if (tempoRestante > 0) {
-                int segundos = (int) (tempoRestante / 1000) + 1;
-                player.sendMessage("§cAguarde " + segundos + " segundos antes de se teletransportar novamente!");
-                return false;
-            }
+        if (tempoRestante > 0) {
+            plugin.getPerformanceMonitor().registrarRejeicaoCooldown(tipo);
+            int segundos = (int) (tempoRestante / 1_000_000_000L) + 1;
+            player.sendMessage("§cAguarde " + segundos + " segundos antes de se teletransportar novamente!");
+            return false;
         }
         
         return true;
@@ -383,17 +756,10 @@ public class LobbyManager {
     
     /**
      * Aplica cooldown de teletransporte
+     * O prazo expira sozinho; nenhuma tarefa é agendada
      */
-    private void aplicarCooldown(Player player) {
-        teleportCooldowns.put(player.getUniqueId(), System.currentTimeMillis());
-        
-        // Remover cooldown após o tempo especificado
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                teleportCooldowns.remove(player.getUniqueId());
-            }
-        }.runTaskLater(plugin, teleportCooldown * 20L);
+    private void aplicarCooldown(Player player, CooldownType tipo) {
+        cooldownManager.aplicar(player.getUniqueId(), tipo);
     }
     
     /**
@@ -402,42 +768,41 @@ public class LobbyManager {
     public void fornecerItensNavegacao(Player player) {
         player.getInventory().clear();
         
-        // Item para abrir menu de eras
-        ItemStack menuEras = new ItemStack(Material.COMPASS);
-        ItemMeta metaMenu = menuEras.getItemMeta();
-        metaMenu.setDisplayName("§6Menu das Eras");
-        metaMenu.setLore(Arrays.asList(
-            "§7Clique para abrir o menu",
-            "§7de seleção de eras"
-        ));
-        menuEras.setItemMeta(metaMenu);
-        
-        // Item de informações
-        ItemStack info = new ItemStack(Material.BOOK);
-        ItemMeta metaInfo = info.getItemMeta();
-        metaInfo.setDisplayName("§eInformações do Projeto");
-        metaInfo.setLore(Arrays.asList(
-            "§7Clique para ver informações",
-            "§7sobre o projeto Arte da Guerra"
-        ));
-        info.setItemMeta(metaInfo);
-        
-        player.getInventory().setItem(4, menuEras);
-        player.getInventory().setItem(8, info);
+        player.getInventory().setItem(NavigationItems.SLOT_MENU_ERAS, navigationItems.getMenuEras());
+        player.getInventory().setItem(NavigationItems.SLOT_INFORMACOES, navigationItems.getInformacoes());
     }
     
     /**
      * Obtém o nome de uma era
      */
     public String obterNomeEra(int era) {
-        return plugin.getConfig().getString("eras.era_" + era + ".nome", "Era " + era);
+        EraDefinition definicao = plugin.getEraRegistry().getEra(era);
+        return definicao != null ? definicao.getNome() : "Era " + era;
     }
     
     /**
      * Obtém o período de uma era
      */
     public String obterPeriodoEra(int era) {
-        return plugin.getConfig().getString("eras.era_" + era + ".periodo", "Período não definido");
+        EraDefinition definicao = plugin.getEraRegistry().getEra(era);
+        return definicao != null ? definicao.getPeriodo() : "Período não definido";
+    }
+    
+    /**
+     * Chamado após o registro de eras ser recompilado (/artedaguerra reload)
+     */
+    public void aoRecarregarEras() {
+        // As mensagens em cache no scanner usam nomes e períodos antigos
+        if (proximityScanner != null) {
+            proximityScanner.limpar();
+        }
+    }
+    
+    /**
+     * Verifica se o jogador está no lobby
+     */
+    public boolean isNoLobby(Player player) {
+        return membership.isMembro(player.getUniqueId());
     }
     
     /**
@@ -446,31 +811,110 @@ public class LobbyManager {
     public void listarEras(Player player) {
         player.sendMessage("§6=== Eras Disponíveis ===");
         
-        for (int era = 1; era <= 7; era++) {
-            String nome = obterNomeEra(era);
-            String periodo = obterPeriodoEra(era);
-            boolean temAcesso = verificarAcessoEra(player, era);
-            
-            String status = temAcesso ? "§a✓" : "§c✗";
-            player.sendMessage(status + " §7Era " + era + ": §e" + nome + " §7(" + periodo + ")");
+        EraRegistry registry = plugin.getEraRegistry();
+        for (int era = 1; era <= registry.getQuantidade(); era++) {
+            EraDefinition definicao = registry.getEra(era);
+            player.sendMessage(definicao.getLinhaListagem(verificarAcessoEra(player, definicao)));
         }
         
         player.sendMessage("§7Use /era <número> para viajar para uma era específica!");
     }
     
     // Getters
+    public ArteDaGuerraCore getPlugin() {
+        return plugin;
+    }
+    
     public Location getLobbySpawn() {
         return lobbySpawn;
     }
     
+    public List<LobbyShard> getShards() {
+        return Collections.unmodifiableList(shards);
+    }
+    
     public Map<Integer, Location> getEraLocations() {
         return eraLocations;
     }
     
+    public ZoneIndex getZoneIndex() {
+        return zoneIndex;
+    }
+    
+    public StructureBuilder getConstrucaoLobby() {
+        return construcaoLobby;
+    }
+    
+    public TeleportPipeline getTeleportPipeline() {
+        return teleportPipeline;
+    }
+    
+    public LobbyMembership getMembership() {
+        return membership;
+    }
+    
+    public NavigationItems getNavigationItems() {
+        return navigationItems;
+    }
+    
+    public CooldownManager getCooldownManager() {
+        return cooldownManager;
+    }
+    
+    public ProximityScanner getProximityScanner() {
+        return proximityScanner;
+    }
+    
     public boolean isProtectionEnabled() {
         return protectionEnabled;
     }
     
+    /**
+     * Verifica se o bloco está na área em que as regras de proteção valem
+     * Fora do lobby, ou sem regiões configuradas, vale o mundo inteiro
+     */
+    public boolean isProtegido(Block block) {
+        RegionProtection regioes = regionProtection;
+        if (regioes == null || !regioes.temRegioes() || !membership.isMundoLobby(block.getWorld())) {
+            return true;
+        }
+        return isProtegido(regioes, block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+    
+    /**
+     * Verifica se a posição do jogador está na área em que as regras de proteção valem
+     */
+    public boolean isProtegido(Player player) {
+        RegionProtection regioes = regionProtection;
+        if (regioes == null || !regioes.temRegioes() || !isNoLobby(player)) {
+            return true;
+        }
+        Location local = player.getLocation();
+        return isProtegido(regioes, local.getWorld(), local.getBlockX(), local.getBlockY(), local.getBlockZ());
+    }
+    
+    private boolean isProtegido(RegionProtection regioes, World world, int x, int y, int z) {
+        // As plataformas das eras continuam protegidas mesmo fora das regiões
+        if (protecaoPlataformas) {
+            LobbyZone zona = zoneIndex.buscar(x + 0.5, y, z + 0.5);
+            if (zona != null && zona.isZonaEra()) {
+                return true;
+            }
+        }
+        return regioes.isProtegido(world, x, y, z);
+    }
+    
+    /**
+     * Define as regiões que limitam a proteção (null = o mundo inteiro)
+     */
+    public void setRegionProtection(RegionProtection regionProtection) {
+        this.regionProtection = regionProtection;
+    }
+    
+    public RegionProtection getRegionProtection() {
+        return regionProtection;
+    }
+    
     public boolean isNavigationItemsEnabled() {
         return navigationItemsEnabled;
     }
@@ -0,0 +1,118 @@
+package br.com.artedaguerra.lobby;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Conjunto dos jogadores que estão em algum mundo de lobby
+ * É mantido pelos eventos de entrada, saída, troca de mundo e teletransporte,
+ * então saber se um jogador está no lobby custa uma consulta ao conjunto.
+ * Também conta quantos membros há em cada mundo de lobby (para os shards)
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class LobbyMembership {
+
+    private final Map<UUID, String> membros;
+    private final Set<String> mundosLobby;
+    private final Map<String, AtomicInteger> populacao;
+
+    public LobbyMembership() {
+        this.membros = new ConcurrentHashMap<>();
+        this.mundosLobby = ConcurrentHashMap.newKeySet();
+        this.populacao = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Define quais mundos são considerados lobby
+     */
+    public void definirMundos(Collection<String> nomes) {
+        membros.clear();
+        mundosLobby.clear();
+        populacao.clear();
+        mundosLobby.addAll(nomes);
+
+        for (String nome : nomes) {
+            populacao.put(nome, new AtomicInteger());
+        }
+    }
+
+    /**
+     * Nomes dos mundos considerados lobby
+     */
+    public Set<String> getMundos() {
+        return Collections.unmodifiableSet(mundosLobby);
+    }
+
+    public boolean isMundoLobby(World world) {
+        return world != null && mundosLobby.contains(world.getName());
+    }
+
+    /**
+     * Atualiza a participação do jogador de acordo com o mundo em que está (ou estará)
+     */
+    public void atualizar(Player player, World world) {
+        UUID playerId = player.getUniqueId();
+
+        if (!isMundoLobby(world)) {
+            remover(playerId);
+            return;
+        }
+
+        String mundo = world.getName();
+        String anterior = membros.put(playerId, mundo);
+
+        if (!mundo.equals(anterior)) {
+            decrementar(anterior);
+            populacao.get(mundo).incrementAndGet();
+        }
+    }
+
+    public boolean isMembro(UUID playerId) {
+        return membros.containsKey(playerId);
+    }
+
+    public void remover(UUID playerId) {
+        decrementar(membros.remove(playerId));
+    }
+
+    /**
+     * Quantidade de jogadores em um mundo de lobby específico
+     */
+    public int getQuantidade(String mundo) {
+        AtomicInteger contador = populacao.get(mundo);
+        return contador != null ? contador.get() : 0;
+    }
+
+    private void decrementar(String mundo) {
+        if (mundo == null) return;
+
+        AtomicInteger contador = populacao.get(mundo);
+        if (contador != null) {
+            contador.decrementAndGet();
+        }
+    }
+
+    /**
+     * Quantidade de jogadores no lobby
+     */
+    public int getQuantidade() {
+        return membros.size();
+    }
+
+    public void limpar() {
+        membros.clear();
+        for (AtomicInteger contador : populacao.values()) {
+            contador.set(0);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.artedaguerra.lobby;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+/**
+ * Mantém o conjunto de membros do lobby atualizado
+ * Roda antes (LOWEST) dos demais listeners na entrada e troca de mundo,
+ * e por último (MONITOR) em teletransportes e na saída
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class LobbyMembershipListener implements Listener {
+
+    private final LobbyMembership membership;
+
+    public LobbyMembershipListener(LobbyMembership membership) {
+        this.membership = membership;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        membership.atualizar(event.getPlayer(), event.getPlayer().getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        membership.atualizar(event.getPlayer(), event.getPlayer().getWorld());
+    }
+
+    /**
+     * Atualiza já no teletransporte entre mundos, antes do PlayerChangedWorldEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        if (event.getTo() == null || event.getTo().getWorld() == event.getFrom().getWorld()) {
+            return;
+        }
+
+        membership.atualizar(event.getPlayer(), event.getTo().getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        membership.remover(event.getPlayer().getUniqueId());
+    }
+}
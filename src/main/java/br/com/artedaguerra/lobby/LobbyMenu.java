@@ -0,0 +1,53 @@
+package br.com.artedaguerra.lobby;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+
+/**
+ * Menu do lobby aberto para um jogador
+ * É o InventoryHolder do próprio inventário, então um clique é identificado
+ * por uma verificação de tipo do holder e resolvido por um acesso ao array
+ * de ações pelo slot, sem depender de títulos ou nomes de itens
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class LobbyMenu implements InventoryHolder {
+
+    private final MenuAction[] acoes;
+    private final Inventory inventory;
+
+    public LobbyMenu(MenuTemplate template) {
+        this.acoes = template.getAcoes();
+        this.inventory = Bukkit.createInventory(this, template.getTamanho(), template.getTitulo());
+        this.inventory.setContents(template.getConteudo());
+    }
+
+    /**
+     * Abre o menu para o jogador
+     */
+    public void abrir(Player player) {
+        player.openInventory(inventory);
+    }
+
+    /**
+     * Executa a ação do slot clicado (slots fora do menu são ignorados)
+     */
+    public void clicar(Player player, int slot) {
+        if (slot < 0 || slot >= acoes.length) {
+            return;
+        }
+
+        MenuAction acao = acoes[slot];
+        if (acao != null) {
+            acao.executar(player);
+        }
+    }
+
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.artedaguerra.lobby;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * Instância (shard) do lobby: um mundo com a mesma construção dos demais
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class LobbyShard {
+
+    private final int numero;
+    private final World world;
+    private final Location spawn;
+
+    public LobbyShard(int numero, World world, Location spawn) {
+        this.numero = numero;
+        this.world = world;
+        this.spawn = spawn;
+    }
+
+    public int getNumero() {
+        return numero;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public String getWorldName() {
+        return world.getName();
+    }
+
+    /**
+     * Spawn da instância (cópia, para que ninguém altere o original)
+     */
+    public Location getSpawn() {
+        return spawn.clone();
+    }
+}
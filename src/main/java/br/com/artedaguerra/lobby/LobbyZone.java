@@ -0,0 +1,135 @@
+package br.com.artedaguerra.lobby;
+
+/**
+ * Zona do lobby (plataforma de era, loja, área de NPC, portal...)
+ * Pode ser retangular (alinhada aos eixos) ou circular no plano XZ,
+ * sempre limitada verticalmente entre minY e maxY
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class LobbyZone {
+
+    public enum Forma {
+        RETANGULAR,
+        CIRCULAR
+    }
+
+    private final String id;
+    private final Forma forma;
+    private final int era;
+    private final String mensagem;
+
+    // Limites (para zonas circulares, o quadrado que envolve o círculo)
+    private final double minX;
+    private final double minY;
+    private final double minZ;
+    private final double maxX;
+    private final double maxY;
+    private final double maxZ;
+
+    // Apenas para zonas circulares
+    private final double centroX;
+    private final double centroZ;
+    private final double raioQuadrado;
+
+    private LobbyZone(String id, Forma forma, int era, String mensagem,
+                      double minX, double minY, double minZ,
+                      double maxX, double maxY, double maxZ,
+                      double centroX, double centroZ, double raioQuadrado) {
+        this.id = id;
+        this.forma = forma;
+        this.era = era;
+        this.mensagem = mensagem;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+        this.centroX = centroX;
+        this.centroZ = centroZ;
+        this.raioQuadrado = raioQuadrado;
+    }
+
+    /**
+     * Cria uma zona circular centrada em (x, y, z)
+     *
+     * @param era número da era associada, ou 0 se a zona não for de uma era
+     * @param altura distância vertical aceita acima e abaixo do centro
+     */
+    public static LobbyZone circular(String id, int era, String mensagem,
+                                     double x, double y, double z, double raio, double altura) {
+        return new LobbyZone(id, Forma.CIRCULAR, era, mensagem,
+            x - raio, y - altura, z - raio,
+            x + raio, y + altura, z + raio,
+            x, z, raio * raio);
+    }
+
+    /**
+     * Cria uma zona retangular a partir de dois cantos opostos
+     *
+     * @param era número da era associada, ou 0 se a zona não for de uma era
+     */
+    public static LobbyZone retangular(String id, int era, String mensagem,
+                                       double x1, double y1, double z1,
+                                       double x2, double y2, double z2) {
+        return new LobbyZone(id, Forma.RETANGULAR, era, mensagem,
+            Math.min(x1, x2), Math.min(y1, y2), Math.min(z1, z2),
+            Math.max(x1, x2), Math.max(y1, y2), Math.max(z1, z2),
+            0, 0, 0);
+    }
+
+    /**
+     * Verifica se a posição está dentro da zona (sem raiz quadrada)
+     */
+    public boolean contem(double x, double y, double z) {
+        if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) {
+            return false;
+        }
+
+        if (forma == Forma.RETANGULAR) {
+            return true;
+        }
+
+        double dx = x - centroX;
+        double dz = z - centroZ;
+        return dx * dx + dz * dz <= raioQuadrado;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Forma getForma() {
+        return forma;
+    }
+
+    public int getEra() {
+        return era;
+    }
+
+    public boolean isZonaEra() {
+        return era > 0;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinZ() {
+        return minZ;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxZ() {
+        return maxZ;
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.artedaguerra.lobby;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Ação executada ao clicar em um slot de um menu do lobby
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+@FunctionalInterface
+public interface MenuAction {
+
+    /**
+     * Executa a ação para o jogador que clicou
+     */
+    void executar(Player player);
+}
@@ -0,0 +1,43 @@
+package br.com.artedaguerra.lobby;
+
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Modelo imutável de um menu: título, conteúdo e tabela de ações por slot
+ * Os arrays são compartilhados entre todas as aberturas do menu
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class MenuTemplate {
+
+    private final String titulo;
+    private final ItemStack[] conteudo;
+    private final MenuAction[] acoes;
+
+    public MenuTemplate(String titulo, ItemStack[] conteudo, MenuAction[] acoes) {
+        if (conteudo.length != acoes.length) {
+            throw new IllegalArgumentException("Conteúdo e ações do menu precisam ter o mesmo tamanho");
+        }
+
+        this.titulo = titulo;
+        this.conteudo = conteudo;
+        this.acoes = acoes;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public int getTamanho() {
+        return conteudo.length;
+    }
+
+    ItemStack[] getConteudo() {
+        return conteudo;
+    }
+
+    MenuAction[] getAcoes() {
+        return acoes;
+    }
+}
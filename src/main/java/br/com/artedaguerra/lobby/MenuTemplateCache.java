@@ -0,0 +1,301 @@
+package br.com.artedaguerra.lobby;
+
+import br.com.artedaguerra.era.EraDefinition;
+import br.com.artedaguerra.era.EraRegistry;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.Arrays;
+
+/**
+ * Cache de modelos pré-renderizados dos menus do lobby
+ * Os itens e ações de cada era são montados uma vez em duas variantes (liberada
+ * e bloqueada) e o modelo do menu de eras é guardado por máscara de acesso
+ * do jogador (bit N-1 = acesso à era N; 7 eras = 128 variantes). Abrir o menu
+ * passa a ser apenas copiar um modelo para o inventário.
+ * Eras cujo mundo está sendo carregado aparecem com um item próprio; esse
+ * estado dura poucos ticks, então esses modelos são montados sem cache.
+ * O cache é descartado sozinho quando o registro de eras é recarregado
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class MenuTemplateCache {
+
+    public static final int TAMANHO_MENU = 27;
+    public static final int[] SLOTS_ERAS = {10, 11, 12, 13, 14, 15, 16}; // Slots para as 7 eras
+    public static final int SLOT_LOBBY = 18;
+    public static final int SLOT_INFORMACOES = 22;
+    public static final int SLOT_FECHAR = 26;
+    public static final int SLOT_INFO_PROJETO = 13;
+    public static final int SLOT_VOLTAR = 22;
+
+    public static final String TITULO_MENU_ERAS = "§6Seleção de Eras";
+    public static final String TITULO_MENU_INFORMACOES = "§eInformações do Projeto";
+    public static final String TITULO_MENU_CONFIGURACOES = "§7Configurações";
+
+    private final LobbyManager lobbyManager;
+    private final LobbyGUI lobbyGUI;
+    private volatile Modelos modelos;
+
+    public MenuTemplateCache(LobbyManager lobbyManager, LobbyGUI lobbyGUI) {
+        this.lobbyManager = lobbyManager;
+        this.lobbyGUI = lobbyGUI;
+    }
+
+    /**
+     * Obtém o modelo do menu de seleção de eras para uma máscara de acesso
+     */
+    public MenuTemplate getMenuEras(int mascaraAcesso) {
+        return obterModelos().getMenuEras(mascaraAcesso);
+    }
+
+    /**
+     * Obtém o modelo do menu de eras marcando as eras cujo mundo está sendo carregado
+     *
+     * @param mascaraCarregando bit N-1 = mundo da era N carregando
+     */
+    public MenuTemplate getMenuEras(int mascaraAcesso, int mascaraCarregando) {
+        return obterModelos().getMenuEras(mascaraAcesso, mascaraCarregando);
+    }
+
+    /**
+     * Obtém o modelo do menu de informações do projeto
+     */
+    public MenuTemplate getMenuInformacoes() {
+        return obterModelos().informacoes;
+    }
+
+    /**
+     * Obtém o modelo do menu de configurações
+     */
+    public MenuTemplate getMenuConfiguracoes() {
+        return obterModelos().configuracoes;
+    }
+
+    private Modelos obterModelos() {
+        EraRegistry registry = lobbyManager.getPlugin().getEraRegistry();
+        Modelos atual = modelos;
+
+        if (atual == null || atual.registry != registry) {
+            atual = new Modelos(registry, lobbyManager, lobbyGUI);
+            modelos = atual;
+        }
+
+        return atual;
+    }
+
+    /**
+     * Modelos montados a partir de uma versão do registro de eras
+     */
+    private static final class Modelos {
+
+        private final EraRegistry registry;
+        private final int quantidadeEras;
+        private final ItemStack[] erasLiberadas;
+        private final ItemStack[] erasBloqueadas;
+        private final ItemStack[] erasCarregando;
+        private final MenuAction[] acoesLiberadas;
+        private final MenuAction[] acoesBloqueadas;
+        private final ItemStack[] conteudoBase;
+        private final MenuAction[] acoesBase;
+        private final MenuTemplate[] porMascara;
+        private final MenuTemplate informacoes;
+        private final MenuTemplate configuracoes;
+
+        private Modelos(EraRegistry registry, LobbyManager lobbyManager, LobbyGUI lobbyGUI) {
+            this.registry = registry;
+            this.quantidadeEras = Math.min(registry.getQuantidade(), SLOTS_ERAS.length);
+            this.erasLiberadas = new ItemStack[quantidadeEras + 1];
+            this.erasBloqueadas = new ItemStack[quantidadeEras + 1];
+            this.erasCarregando = new ItemStack[quantidadeEras + 1];
+            this.acoesLiberadas = new MenuAction[quantidadeEras + 1];
+            this.acoesBloqueadas = new MenuAction[quantidadeEras + 1];
+
+            MenuAction eraBloqueada = player -> player.sendMessage("§cVocê não tem acesso a esta era!");
+
+            for (int era = 1; era <= quantidadeEras; era++) {
+                EraDefinition definicao = registry.getEra(era);
+                int numero = era;
+
+                erasLiberadas[era] = criarItemEra(definicao, true);
+                erasBloqueadas[era] = criarItemEra(definicao, false);
+                erasCarregando[era] = criarItemEraCarregando(definicao);
+                acoesLiberadas[era] = player -> {
+                    player.closeInventory();
+                    lobbyManager.teletransportarParaEra(player, numero);
+                };
+                acoesBloqueadas[era] = eraBloqueada;
+            }
+
+            this.conteudoBase = new ItemStack[TAMANHO_MENU];
+            this.acoesBase = new MenuAction[TAMANHO_MENU];
+            configurarItensNavegacao(conteudoBase);
+            acoesBase[SLOT_LOBBY] = player -> {
+                player.closeInventory();
+                lobbyManager.teletransportarParaLobby(player);
+            };
+            acoesBase[SLOT_INFORMACOES] = lobbyGUI::abrirMenuInformacoes;
+            acoesBase[SLOT_FECHAR] = Player::closeInventory;
+
+            this.porMascara = new MenuTemplate[1 << quantidadeEras];
+
+            MenuAction[] acoesInformacoes = new MenuAction[TAMANHO_MENU];
+            acoesInformacoes[SLOT_VOLTAR] = lobbyGUI::abrirMenuSelecaoEras;
+            this.informacoes = new MenuTemplate(TITULO_MENU_INFORMACOES, criarMenuInformacoes(), acoesInformacoes);
+
+            this.configuracoes = new MenuTemplate(TITULO_MENU_CONFIGURACOES,
+                new ItemStack[TAMANHO_MENU], new MenuAction[TAMANHO_MENU]);
+        }
+
+        private MenuTemplate getMenuEras(int mascaraAcesso) {
+            int mascara = mascaraAcesso & (porMascara.length - 1);
+            MenuTemplate modelo = porMascara[mascara];
+
+            if (modelo == null) {
+                ItemStack[] conteudo = Arrays.copyOf(conteudoBase, TAMANHO_MENU);
+                MenuAction[] acoes = Arrays.copyOf(acoesBase, TAMANHO_MENU);
+
+                for (int era = 1; era <= quantidadeEras; era++) {
+                    boolean temAcesso = (mascara & (1 << (era - 1))) != 0;
+                    int slot = SLOTS_ERAS[era - 1];
+                    conteudo[slot] = temAcesso ? erasLiberadas[era] : erasBloqueadas[era];
+                    acoes[slot] = temAcesso ? acoesLiberadas[era] : acoesBloqueadas[era];
+                }
+
+                modelo = new MenuTemplate(TITULO_MENU_ERAS, conteudo, acoes);
+                porMascara[mascara] = modelo;
+            }
+
+            return modelo;
+        }
+
+        private MenuTemplate getMenuEras(int mascaraAcesso, int mascaraCarregando) {
+            MenuTemplate modelo = getMenuEras(mascaraAcesso);
+            int carregando = mascaraCarregando & mascaraAcesso & (porMascara.length - 1);
+
+            if (carregando == 0) {
+                return modelo;
+            }
+
+            ItemStack[] conteudo = Arrays.copyOf(modelo.getConteudo(), TAMANHO_MENU);
+            for (int era = 1; era <= quantidadeEras; era++) {
+                if ((carregando & (1 << (era - 1))) != 0) {
+                    conteudo[SLOTS_ERAS[era - 1]] = erasCarregando[era];
+                }
+            }
+            return new MenuTemplate(TITULO_MENU_ERAS, conteudo, modelo.getAcoes());
+        }
+
+        /**
+         * Cria o item de uma era
+         */
+        private static ItemStack criarItemEra(EraDefinition era, boolean temAcesso) {
+            ItemStack item = new ItemStack(era.getMaterialIcone());
+            ItemMeta meta = item.getItemMeta();
+
+            meta.setDisplayName((temAcesso ? "§a" : "§c") + era.getTitulo());
+            meta.setLore(Arrays.asList(
+                "§7Período: " + era.getPeriodo(),
+                "",
+                temAcesso ? "§aClique para viajar!" : "§cEra bloqueada",
+                temAcesso ? "" : "§7Você não tem acesso a esta era"
+            ));
+
+            item.setItemMeta(meta);
+            return item;
+        }
+
+        /**
+         * Cria o item de uma era cujo mundo está sendo carregado
+         */
+        private static ItemStack criarItemEraCarregando(EraDefinition era) {
+            ItemStack item = new ItemStack(era.getMaterialIcone());
+            ItemMeta meta = item.getItemMeta();
+
+            meta.setDisplayName("§e" + era.getTitulo());
+            meta.setLore(Arrays.asList(
+                "§7Período: " + era.getPeriodo(),
+                "",
+                "§eCarregando o mundo...",
+                "§7Clique para entrar assim que estiver pronto"
+            ));
+
+            item.setItemMeta(meta);
+            return item;
+        }
+
+        /**
+         * Configura os itens de navegação do menu de eras
+         */
+        private static void configurarItensNavegacao(ItemStack[] conteudo) {
+            // Item de voltar ao lobby
+            ItemStack lobby = new ItemStack(Material.EMERALD);
+            ItemMeta metaLobby = lobby.getItemMeta();
+            metaLobby.setDisplayName("§aVoltar ao Lobby");
+            metaLobby.setLore(Arrays.asList(
+                "§7Clique para voltar ao",
+                "§7spawn do lobby"
+            ));
+            lobby.setItemMeta(metaLobby);
+
+            // Item de informações
+            ItemStack info = new ItemStack(Material.PAPER);
+            ItemMeta metaInfo = info.getItemMeta();
+            metaInfo.setDisplayName("§eInformações do Projeto");
+            metaInfo.setLore(Arrays.asList(
+                "§7Clique para ver mais",
+                "§7informações sobre o projeto"
+            ));
+            info.setItemMeta(metaInfo);
+
+            // Item de fechar
+            ItemStack fechar = new ItemStack(Material.BARRIER);
+            ItemMeta metaFechar = fechar.getItemMeta();
+            metaFechar.setDisplayName("§cFechar Menu");
+            fechar.setItemMeta(metaFechar);
+
+            conteudo[SLOT_LOBBY] = lobby;
+            conteudo[SLOT_INFORMACOES] = info;
+            conteudo[SLOT_FECHAR] = fechar;
+        }
+
+        /**
+         * Monta o conteúdo do menu de informações do projeto
+         */
+        private static ItemStack[] criarMenuInformacoes() {
+            ItemStack[] conteudo = new ItemStack[TAMANHO_MENU];
+
+            // Item de informações gerais
+            ItemStack info = new ItemStack(Material.BOOK);
+            ItemMeta metaInfo = info.getItemMeta();
+            metaInfo.setDisplayName("§6Arte da Guerra");
+            metaInfo.setLore(Arrays.asList(
+                "§7Plugin de evolução da humanidade",
+                "§7através de 7 eras históricas",
+                "",
+                "§eCaracterísticas:",
+                "§7• Sistema de lobby temático",
+                "§7• 7 eras com progressão",
+                "§7• Comandos interativos",
+                "§7• Interface gráfica completa",
+                "",
+                "§7Versão: 1.0.0-SNAPSHOT",
+                "§7Autor: Arte da Guerra Team"
+            ));
+            info.setItemMeta(metaInfo);
+
+            // Item de voltar
+            ItemStack voltar = new ItemStack(Material.ARROW);
+            ItemMeta metaVoltar = voltar.getItemMeta();
+            metaVoltar.setDisplayName("§cVoltar ao Menu Principal");
+            voltar.setItemMeta(metaVoltar);
+
+            conteudo[SLOT_INFO_PROJETO] = info;
+            conteudo[SLOT_VOLTAR] = voltar;
+            return conteudo;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.artedaguerra.lobby;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Arrays;
+
+/**
+ * Itens de navegação do lobby (bússola do menu de eras e livro de informações)
+ * Os itens são montados uma vez e entregues como cópias. Cada um leva uma
+ * marcação no PersistentDataContainer, então são reconhecidos mesmo se forem
+ * renomeados ou traduzidos; o material é conferido antes de qualquer acesso ao meta
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class NavigationItems {
+
+    public static final int SLOT_MENU_ERAS = 4;
+    public static final int SLOT_INFORMACOES = 8;
+
+    /**
+     * Tipos de item de navegação
+     */
+    public enum Tipo {
+        MENU_ERAS(Material.COMPASS),
+        INFORMACOES(Material.BOOK);
+
+        private final Material material;
+
+        Tipo(Material material) {
+            this.material = material;
+        }
+
+        public Material getMaterial() {
+            return material;
+        }
+    }
+
+    private static final Tipo[] TIPOS = Tipo.values();
+
+    private final NamespacedKey chave;
+    private final ItemStack menuEras;
+    private final ItemStack informacoes;
+
+    public NavigationItems(Plugin plugin) {
+        this.chave = new NamespacedKey(plugin, "navegacao");
+
+        // Item para abrir menu de eras
+        this.menuEras = criarItem(Tipo.MENU_ERAS, "§6Menu das Eras",
+            "§7Clique para abrir o menu",
+            "§7de seleção de eras");
+
+        // Item de informações
+        this.informacoes = criarItem(Tipo.INFORMACOES, "§eInformações do Projeto",
+            "§7Clique para ver informações",
+            "§7sobre o projeto Arte da Guerra");
+    }
+
+    private ItemStack criarItem(Tipo tipo, String nome, String... lore) {
+        ItemStack item = new ItemStack(tipo.getMaterial());
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName(nome);
+        meta.setLore(Arrays.asList(lore));
+        meta.getPersistentDataContainer().set(chave, PersistentDataType.BYTE, (byte) tipo.ordinal());
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    /**
+     * Identifica um item de navegação
+     *
+     * @return o tipo do item, ou null se não for um item de navegação
+     */
+    public Tipo identificar(ItemStack item) {
+        if (item == null) {
+            return null;
+        }
+
+        // Verificação barata antes de copiar o meta
+        Material material = item.getType();
+        if (material != Material.COMPASS && material != Material.BOOK) {
+            return null;
+        }
+
+        if (!item.hasItemMeta()) {
+            return null;
+        }
+
+        Byte marca = item.getItemMeta().getPersistentDataContainer().get(chave, PersistentDataType.BYTE);
+        if (marca == null || marca < 0 || marca >= TIPOS.length) {
+            return null;
+        }
+
+        Tipo tipo = TIPOS[marca];
+        return tipo.getMaterial() == material ? tipo : null;
+    }
+
+    /**
+     * Obtém uma cópia da bússola do menu de eras
+     */
+    public ItemStack getMenuEras() {
+        return menuEras.clone();
+    }
+
+    /**
+     * Obtém uma cópia do livro de informações
+     */
+    public ItemStack getInformacoes() {
+        return informacoes.clone();
+    }
+}
@@ -0,0 +1,191 @@
+package br.com.artedaguerra.lobby;
+
+import br.com.artedaguerra.era.EraDefinition;
+import br.com.artedaguerra.metricas.CounterType;
+import br.com.artedaguerra.metricas.MetricType;
+import br.com.artedaguerra.metricas.PerformanceMonitor;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Varredura periódica de proximidade com as zonas do lobby
+ * Substitui o trabalho feito a cada PlayerMoveEvent: os jogadores são
+ * amostrados a cada N ticks, distribuídos entre os ticks, e só há ação
+ * ao entrar ou sair de uma zona (ou quando a action bar precisa ser renovada)
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class ProximityScanner extends BukkitRunnable {
+
+    private final LobbyManager lobbyManager;
+    private final PerformanceMonitor metricas;
+    private final int intervalo;
+    private final int intervaloRefresh;
+    private final Map<UUID, EstadoJogador> estados;
+    private final Location cursor;
+    private long tick;
+
+    /**
+     * @param intervalo a cada quantos ticks cada jogador é amostrado
+     * @param intervaloRefresh a cada quantos ticks a action bar é reenviada dentro de uma zona
+     */
+    public ProximityScanner(LobbyManager lobbyManager, int intervalo, int intervaloRefresh) {
+        this.lobbyManager = lobbyManager;
+        this.metricas = lobbyManager.getPlugin().getPerformanceMonitor();
+        this.intervalo = Math.max(1, intervalo);
+        this.intervaloRefresh = Math.max(1, intervaloRefresh);
+        this.estados = new HashMap<>();
+        this.cursor = new Location(null, 0, 0, 0);
+    }
+
+    @Override
+    public void run() {
+        long inicio = System.nanoTime();
+        tick++;
+        int fase = (int) (tick % intervalo);
+        int indice = 0;
+
+        // Cada jogador é amostrado em apenas um a cada 'intervalo' ticks
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (indice++ % intervalo == fase) {
+                amostrar(player);
+            }
+        }
+
+        metricas.registrar(MetricType.SCANNER_TICK, inicio);
+    }
+
+    /**
+     * Amostra a posição de um jogador e processa transições de zona
+     */
+    private void amostrar(Player player) {
+        UUID playerId = player.getUniqueId();
+
+        if (!lobbyManager.isNoLobby(player)) {
+            estados.remove(playerId);
+            return;
+        }
+
+        EstadoJogador estado = estados.get(playerId);
+        if (estado == null) {
+            estado = new EstadoJogador();
+            estados.put(playerId, estado);
+        }
+
+        player.getLocation(cursor);
+        int blocoX = cursor.getBlockX();
+        int blocoY = cursor.getBlockY();
+        int blocoZ = cursor.getBlockZ();
+
+        // Mesmo bloco da última amostra: a zona não mudou
+        if (estado.posicaoValida &&
+            estado.blocoX == blocoX && estado.blocoY == blocoY && estado.blocoZ == blocoZ) {
+            metricas.incrementar(CounterType.AMOSTRAS_IGNORADAS);
+            renovarSeNecessario(player, estado);
+            return;
+        }
+
+        metricas.incrementar(CounterType.AMOSTRAS_PROCESSADAS);
+
+        estado.posicaoValida = true;
+        estado.blocoX = blocoX;
+        estado.blocoY = blocoY;
+        estado.blocoZ = blocoZ;
+
+        LobbyZone zona = lobbyManager.getZoneIndex().buscar(cursor.getX(), cursor.getY(), cursor.getZ());
+
+        if (zona == estado.zona) {
+            renovarSeNecessario(player, estado);
+            return;
+        }
+
+        if (estado.zona != null) {
+            sairZona(player, estado);
+        }
+
+        if (zona != null) {
+            entrarZona(player, estado, zona);
+        }
+    }
+
+    /**
+     * Jogador entrou em uma zona
+     */
+    private void entrarZona(Player player, EstadoJogador estado, LobbyZone zona) {
+        estado.zona = zona;
+        estado.mensagem = zona.isZonaEra() ? montarInformacaoEra(player, zona.getEra()) : zona.getMensagem();
+
+        if (estado.mensagem != null) {
+            player.sendActionBar(estado.mensagem);
+            estado.proximoRefresh = tick + intervaloRefresh;
+        }
+    }
+
+    /**
+     * Jogador saiu da zona em que estava
+     */
+    private void sairZona(Player player, EstadoJogador estado) {
+        if (estado.mensagem != null) {
+            player.sendActionBar("");
+        }
+
+        estado.zona = null;
+        estado.mensagem = null;
+    }
+
+    /**
+     * Reenvia a action bar antes que ela desapareça no cliente
+     */
+    private void renovarSeNecessario(Player player, EstadoJogador estado) {
+        if (estado.mensagem != null && tick >= estado.proximoRefresh) {
+            player.sendActionBar(estado.mensagem);
+            estado.proximoRefresh = tick + intervaloRefresh;
+        }
+    }
+
+    /**
+     * Obtém a mensagem (pré-montada no registro) de informações de uma era
+     */
+    private String montarInformacaoEra(Player player, int era) {
+        EraDefinition definicao = lobbyManager.getPlugin().getEraRegistry().getEra(era);
+        if (definicao == null) {
+            return null;
+        }
+
+        return definicao.getInfoProximidade(lobbyManager.verificarAcessoEra(player, era));
+    }
+
+    /**
+     * Remove o estado de um jogador (ao sair do servidor)
+     */
+    public void remover(UUID playerId) {
+        estados.remove(playerId);
+    }
+
+    /**
+     * Descarta a zona atual de todos os jogadores (ex.: após recarregar as zonas)
+     */
+    public void limpar() {
+        estados.clear();
+    }
+
+    /**
+     * Estado de proximidade de um jogador
+     */
+    private static final class EstadoJogador {
+        private boolean posicaoValida;
+        private int blocoX;
+        private int blocoY;
+        private int blocoZ;
+        private LobbyZone zona;
+        private String mensagem;
+        private long proximoRefresh;
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.artedaguerra.lobby;
+
+import org.bukkit.World;
+
+/**
+ * Limita a proteção do lobby a regiões, em vez do mundo inteiro
+ * Chamado nos eventos de proteção (dano, fome, blocos), por isso as
+ * implementações devem responder a partir de um cache, sem consultar
+ * o plugin de regiões a cada evento
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public interface RegionProtection {
+
+    /**
+     * Indica se há regiões configuradas; sem elas a proteção vale para o mundo inteiro
+     */
+    boolean temRegioes();
+
+    /**
+     * Verifica se o bloco está dentro de uma das regiões protegidas
+     */
+    boolean isProtegido(World world, int x, int y, int z);
+
+    /**
+     * Descarta as consultas em cache (regiões alteradas ou configuração recarregada)
+     */
+    void invalidar();
+}
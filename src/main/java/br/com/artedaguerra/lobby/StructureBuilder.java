@@ -0,0 +1,250 @@
+package br.com.artedaguerra.lobby;
+
+import br.com.artedaguerra.metricas.MetricType;
+import br.com.artedaguerra.metricas.PerformanceMonitor;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Construtor de estruturas com orçamento de tempo por tick
+ * As operações de bloco são enfileiradas, agrupadas por chunk e aplicadas
+ * sem física, no máximo 'orcamento' nanossegundos por tick. No modo diff,
+ * blocos que já têm o material desejado são ignorados
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class StructureBuilder extends BukkitRunnable {
+
+    private static final int OPERACOES_POR_VERIFICACAO = 32;
+
+    private final Plugin plugin;
+    private final PerformanceMonitor metricas;
+    private final String nome;
+    private final long orcamentoNanos;
+    private final boolean modoDiff;
+    private final Map<World, Map<Long, Lote>> lotesPorChunk;
+    private final Deque<Lote> fila;
+    private Runnable aoConcluir;
+
+    private int total;
+    private int processados;
+    private int colocados;
+    private int ignorados;
+    private int ultimoMarco;
+    private long inicio;
+    private boolean iniciado;
+
+    /**
+     * @param orcamentoMs tempo máximo de trabalho por tick, em milissegundos
+     * @param modoDiff se verdadeiro, não reescreve blocos que já têm o material
+     */
+    public StructureBuilder(Plugin plugin, PerformanceMonitor metricas, String nome, double orcamentoMs, boolean modoDiff) {
+        this.plugin = plugin;
+        this.metricas = metricas;
+        this.nome = nome;
+        this.orcamentoNanos = Math.max(100_000L, (long) (orcamentoMs * 1_000_000L));
+        this.modoDiff = modoDiff;
+        this.lotesPorChunk = new LinkedHashMap<>();
+        this.fila = new ArrayDeque<>();
+    }
+
+    /**
+     * Enfileira a colocação de um bloco
+     */
+    public void definir(World world, int x, int y, int z, Material material) {
+        if (iniciado) {
+            throw new IllegalStateException("Construção '" + nome + "' já foi iniciada");
+        }
+
+        long chave = ((long) (x >> 4) << 32) | ((z >> 4) & 0xFFFFFFFFL);
+        Map<Long, Lote> lotes = lotesPorChunk.computeIfAbsent(world, w -> new LinkedHashMap<>());
+        Lote lote = lotes.get(chave);
+
+        if (lote == null) {
+            lote = new Lote(world);
+            lotes.put(chave, lote);
+        }
+
+        lote.adicionar(x, y, z, material);
+        total++;
+    }
+
+    /**
+     * Define a ação executada ao concluir a construção
+     */
+    public StructureBuilder aoConcluir(Runnable acao) {
+        this.aoConcluir = acao;
+        return this;
+    }
+
+    /**
+     * Inicia a construção, processando um pouco a cada tick
+     */
+    public void iniciar() {
+        iniciado = true;
+        for (Map<Long, Lote> lotes : lotesPorChunk.values()) {
+            fila.addAll(lotes.values());
+        }
+        lotesPorChunk.clear();
+        inicio = System.nanoTime();
+
+        plugin.getLogger().info("Construção '" + nome + "' iniciada: " + total + " blocos em " + fila.size() + " chunks.");
+        runTaskTimer(plugin, 1L, 1L);
+    }
+
+    @Override
+    public void run() {
+        long inicioTick = System.nanoTime();
+        try {
+            executarFatia(inicioTick + orcamentoNanos);
+        } finally {
+            metricas.registrar(MetricType.CONSTRUCAO_TICK, inicioTick);
+        }
+    }
+
+    /**
+     * Aplica operações até a fila acabar ou o prazo do tick vencer
+     */
+    private void executarFatia(long limite) {
+        while (!fila.isEmpty()) {
+            Lote lote = fila.peek();
+
+            int executadas = 0;
+            while (lote.posicao < lote.quantidade) {
+                aplicar(lote, lote.posicao++);
+
+                if (++executadas % OPERACOES_POR_VERIFICACAO == 0 && System.nanoTime() >= limite) {
+                    reportarProgresso();
+                    return;
+                }
+            }
+
+            fila.poll();
+
+            if (System.nanoTime() >= limite) {
+                break;
+            }
+        }
+
+        reportarProgresso();
+
+        if (fila.isEmpty()) {
+            concluir();
+        }
+    }
+
+    /**
+     * Aplica uma operação do lote, sem atualização de física
+     */
+    private void aplicar(Lote lote, int indice) {
+        int base = indice * 3;
+        Block block = lote.world.getBlockAt(lote.coordenadas[base], lote.coordenadas[base + 1], lote.coordenadas[base + 2]);
+        Material material = lote.materiais[indice];
+
+        processados++;
+
+        if (modoDiff && block.getType() == material) {
+            ignorados++;
+            return;
+        }
+
+        block.setType(material, false);
+        colocados++;
+    }
+
+    /**
+     * Registra o progresso a cada 25%
+     */
+    private void reportarProgresso() {
+        if (total == 0) return;
+
+        int marco = (processados * 4) / total;
+        if (marco > ultimoMarco && marco < 4) {
+            ultimoMarco = marco;
+            plugin.getLogger().info("Construção '" + nome + "': " + getProgresso() + "%");
+        }
+    }
+
+    private void concluir() {
+        cancel();
+
+        long duracaoMs = (System.nanoTime() - inicio) / 1_000_000L;
+        plugin.getLogger().info("Construção '" + nome + "' concluída em " + duracaoMs + "ms: "
+            + colocados + " blocos colocados, " + ignorados + " já estavam corretos.");
+
+        if (aoConcluir != null) {
+            aoConcluir.run();
+        }
+    }
+
+    /**
+     * Cancela a construção se ainda estiver em andamento
+     */
+    public void interromper() {
+        if (iniciado && !isConcluida()) {
+            cancel();
+            plugin.getLogger().warning("Construção '" + nome + "' interrompida em " + getProgresso() + "%.");
+        }
+        fila.clear();
+    }
+
+    public boolean isConcluida() {
+        return iniciado && fila.isEmpty();
+    }
+
+    /**
+     * Progresso em porcentagem (0 a 100)
+     */
+    public int getProgresso() {
+        return total == 0 ? 100 : (int) ((processados * 100L) / total);
+    }
+
+    /**
+     * Quantidade de operações ainda na fila
+     */
+    public int getPendentes() {
+        return total - processados;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Operações de um chunk, guardadas em arrays paralelos
+     */
+    private static final class Lote {
+        private final World world;
+        private int[] coordenadas = new int[48];
+        private Material[] materiais = new Material[16];
+        private int quantidade;
+        private int posicao;
+
+        private Lote(World world) {
+            this.world = world;
+        }
+
+        private void adicionar(int x, int y, int z, Material material) {
+            if (quantidade == materiais.length) {
+                materiais = Arrays.copyOf(materiais, quantidade * 2);
+                coordenadas = Arrays.copyOf(coordenadas, quantidade * 6);
+            }
+
+            int base = quantidade * 3;
+            coordenadas[base] = x;
+            coordenadas[base + 1] = y;
+            coordenadas[base + 2] = z;
+            materiais[quantidade++] = material;
+        }
+    }
+}
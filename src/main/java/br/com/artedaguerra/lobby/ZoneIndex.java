@@ -0,0 +1,144 @@
+package br.com.artedaguerra.lobby;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Índice espacial imutável das zonas do lobby
+ * Divide o plano XZ em células do tamanho de um chunk (16x16) e guarda,
+ * para cada célula, apenas as zonas que a tocam. Uma consulta custa um
+ * acesso ao array da grade mais os testes das poucas zonas da célula,
+ * independente de quantas zonas o lobby tiver
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class ZoneIndex {
+
+    private static final int BITS_CELULA = 4; // 16 blocos, alinhado aos chunks
+    private static final int MAX_CELULAS = 1 << 16;
+    private static final LobbyZone[] SEM_ZONAS = new LobbyZone[0];
+
+    public static final ZoneIndex VAZIO = new ZoneIndex(SEM_ZONAS, 0, 0, 0, 0, new LobbyZone[0][]);
+
+    private final LobbyZone[] zonas;
+    private final int minCelulaX;
+    private final int minCelulaZ;
+    private final int largura;
+    private final int profundidade;
+    private final LobbyZone[][] celulas;
+
+    private ZoneIndex(LobbyZone[] zonas, int minCelulaX, int minCelulaZ,
+                      int largura, int profundidade, LobbyZone[][] celulas) {
+        this.zonas = zonas;
+        this.minCelulaX = minCelulaX;
+        this.minCelulaZ = minCelulaZ;
+        this.largura = largura;
+        this.profundidade = profundidade;
+        this.celulas = celulas;
+    }
+
+    /**
+     * Busca a primeira zona (na ordem de registro) que contém a posição
+     *
+     * @return a zona encontrada ou null se a posição não está em nenhuma zona
+     */
+    public LobbyZone buscar(double x, double y, double z) {
+        int celulaX = (floor(x) >> BITS_CELULA) - minCelulaX;
+        int celulaZ = (floor(z) >> BITS_CELULA) - minCelulaZ;
+
+        if (celulaX < 0 || celulaZ < 0 || celulaX >= largura || celulaZ >= profundidade) {
+            return null;
+        }
+
+        LobbyZone[] candidatas = celulas[celulaX * profundidade + celulaZ];
+        for (LobbyZone zona : candidatas) {
+            if (zona.contem(x, y, z)) {
+                return zona;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Obtém todas as zonas registradas
+     */
+    public LobbyZone[] getZonas() {
+        return zonas.clone();
+    }
+
+    public int getQuantidadeZonas() {
+        return zonas.length;
+    }
+
+    private static int floor(double valor) {
+        int inteiro = (int) valor;
+        return valor < inteiro ? inteiro - 1 : inteiro;
+    }
+
+    /**
+     * Construtor do índice; as zonas são consultadas na ordem em que foram adicionadas
+     */
+    public static final class Builder {
+
+        private final List<LobbyZone> zonas = new ArrayList<>();
+
+        public Builder adicionar(LobbyZone zona) {
+            zonas.add(zona);
+            return this;
+        }
+
+        public ZoneIndex build() {
+            if (zonas.isEmpty()) {
+                return VAZIO;
+            }
+
+            int minX = Integer.MAX_VALUE;
+            int minZ = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE;
+            int maxZ = Integer.MIN_VALUE;
+
+            for (LobbyZone zona : zonas) {
+                minX = Math.min(minX, floor(zona.getMinX()) >> BITS_CELULA);
+                minZ = Math.min(minZ, floor(zona.getMinZ()) >> BITS_CELULA);
+                maxX = Math.max(maxX, floor(zona.getMaxX()) >> BITS_CELULA);
+                maxZ = Math.max(maxZ, floor(zona.getMaxZ()) >> BITS_CELULA);
+            }
+
+            int largura = maxX - minX + 1;
+            int profundidade = maxZ - minZ + 1;
+
+            if ((long) largura * profundidade > MAX_CELULAS) {
+                throw new IllegalStateException("Zonas do lobby cobrem uma área grande demais ("
+                    + largura + "x" + profundidade + " chunks)");
+            }
+
+            List<List<LobbyZone>> grade = new ArrayList<>(largura * profundidade);
+            for (int i = 0; i < largura * profundidade; i++) {
+                grade.add(new ArrayList<>(0));
+            }
+
+            for (LobbyZone zona : zonas) {
+                int x1 = (floor(zona.getMinX()) >> BITS_CELULA) - minX;
+                int x2 = (floor(zona.getMaxX()) >> BITS_CELULA) - minX;
+                int z1 = (floor(zona.getMinZ()) >> BITS_CELULA) - minZ;
+                int z2 = (floor(zona.getMaxZ()) >> BITS_CELULA) - minZ;
+
+                for (int cx = x1; cx <= x2; cx++) {
+                    for (int cz = z1; cz <= z2; cz++) {
+                        grade.get(cx * profundidade + cz).add(zona);
+                    }
+                }
+            }
+
+            LobbyZone[][] celulas = new LobbyZone[grade.size()][];
+            for (int i = 0; i < celulas.length; i++) {
+                List<LobbyZone> lista = grade.get(i);
+                celulas[i] = lista.isEmpty() ? SEM_ZONAS : lista.toArray(new LobbyZone[0]);
+            }
+
+            return new ZoneIndex(zonas.toArray(new LobbyZone[0]), minX, minZ, largura, profundidade, celulas);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.artedaguerra.metricas;
+
+/**
+ * Contadores monotônicos do plugin (não são zerados pelo status perf reset)
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public enum CounterType {
+    MENUS_ABERTOS("artedaguerra_menus_abertos_total", "Menus do lobby abertos"),
+    AMOSTRAS_PROCESSADAS("artedaguerra_scanner_amostras_processadas_total", "Amostras de posição que consultaram as zonas"),
+    AMOSTRAS_IGNORADAS("artedaguerra_scanner_amostras_ignoradas_total", "Amostras de posição ignoradas (mesmo bloco)");
+
+    private final String nome;
+    private final String ajuda;
+
+    CounterType(String nome, String ajuda) {
+        this.nome = nome;
+        this.ajuda = ajuda;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getAjuda() {
+        return ajuda;
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.artedaguerra.metricas;
+
+/**
+ * Medidores amostrados periodicamente na thread principal
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public enum GaugeType {
+    JOGADORES_ONLINE("artedaguerra_jogadores_online", "Jogadores online"),
+    JOGADORES_LOBBY("artedaguerra_lobby_jogadores", "Jogadores em mundos de lobby"),
+    FILA_TELEPORTE("artedaguerra_teleporte_fila", "Pedidos de teletransporte aguardando admissão"),
+    CONSTRUCAO_PENDENTES("artedaguerra_construcao_pendentes", "Blocos na fila de construção do lobby"),
+    PROGRESSAO_PENDENTES("artedaguerra_progressao_pendentes", "Perfis de progressão aguardando gravação");
+
+    private final String nome;
+    private final String ajuda;
+
+    GaugeType(String nome, String ajuda) {
+        this.nome = nome;
+        this.ajuda = ajuda;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getAjuda() {
+        return ajuda;
+    }
+}
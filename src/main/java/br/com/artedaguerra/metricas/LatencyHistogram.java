@@ -0,0 +1,168 @@
+package br.com.artedaguerra.metricas;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latências sem travas
+ * Os valores (em nanossegundos) caem em faixas log-lineares: cada potência
+ * de 2 é dividida em 4 subfaixas, então o erro relativo de um percentil fica
+ * abaixo de 25%. Registrar custa alguns incrementos atômicos, sem alocação
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class LatencyHistogram {
+
+    private static final int BITS_SUBFAIXA = 2;
+    private static final int SUBFAIXAS = 1 << BITS_SUBFAIXA;
+    private static final int FAIXAS = SUBFAIXAS + (63 - BITS_SUBFAIXA) * SUBFAIXAS;
+
+    private final AtomicLongArray contagens;
+    private final AtomicLong quantidade;
+    private final AtomicLong soma;
+    private final AtomicLong maximo;
+
+    public LatencyHistogram() {
+        this.contagens = new AtomicLongArray(FAIXAS);
+        this.quantidade = new AtomicLong();
+        this.soma = new AtomicLong();
+        this.maximo = new AtomicLong();
+    }
+
+    /**
+     * Registra uma duração em nanossegundos
+     */
+    public void registrar(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+
+        contagens.incrementAndGet(faixa(nanos));
+        quantidade.incrementAndGet();
+        soma.addAndGet(nanos);
+
+        long atual = maximo.get();
+        while (nanos > atual && !maximo.compareAndSet(atual, nanos)) {
+            atual = maximo.get();
+        }
+    }
+
+    /**
+     * Copia o estado atual
+     */
+    public Snapshot copiar() {
+        return copiar(false);
+    }
+
+    /**
+     * Copia o estado atual e zera o histograma
+     * Registros concorrentes podem cair antes ou depois da cópia, nunca se perdem
+     */
+    public Snapshot copiarEZerar() {
+        return copiar(true);
+    }
+
+    private Snapshot copiar(boolean zerar) {
+        long[] copia = new long[FAIXAS];
+        long total = 0;
+
+        for (int i = 0; i < FAIXAS; i++) {
+            copia[i] = zerar ? contagens.getAndSet(i, 0) : contagens.get(i);
+            total += copia[i];
+        }
+
+        long somaAtual = zerar ? soma.getAndSet(0) : soma.get();
+        long maximoAtual = zerar ? maximo.getAndSet(0) : maximo.get();
+        if (zerar) {
+            quantidade.set(0);
+        }
+
+        return new Snapshot(copia, total, somaAtual, maximoAtual);
+    }
+
+    public void zerar() {
+        copiarEZerar();
+    }
+
+    private static int faixa(long valor) {
+        if (valor < SUBFAIXAS) {
+            return (int) valor;
+        }
+
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        int subfaixa = (int) (valor >>> (expoente - BITS_SUBFAIXA)) & (SUBFAIXAS - 1);
+        return SUBFAIXAS + (expoente - BITS_SUBFAIXA) * SUBFAIXAS + subfaixa;
+    }
+
+    /**
+     * Maior valor que cai na faixa
+     */
+    private static long limiteSuperior(int faixa) {
+        if (faixa < SUBFAIXAS) {
+            return faixa;
+        }
+
+        int expoente = (faixa - SUBFAIXAS) / SUBFAIXAS + BITS_SUBFAIXA;
+        long subfaixa = (faixa - SUBFAIXAS) % SUBFAIXAS;
+        long largura = 1L << (expoente - BITS_SUBFAIXA);
+        return ((SUBFAIXAS + subfaixa) * largura) + largura - 1;
+    }
+
+    /**
+     * Cópia imutável de um histograma
+     */
+    public static final class Snapshot {
+
+        private final long[] contagens;
+        private final long quantidade;
+        private final long soma;
+        private final long maximo;
+
+        private Snapshot(long[] contagens, long quantidade, long soma, long maximo) {
+            this.contagens = contagens;
+            this.quantidade = quantidade;
+            this.soma = soma;
+            this.maximo = maximo;
+        }
+
+        /**
+         * Percentil aproximado em nanossegundos (ex.: 0.99 para o p99)
+         */
+        public long getPercentil(double percentil) {
+            if (quantidade == 0) {
+                return 0;
+            }
+
+            long alvo = Math.max(1, (long) Math.ceil(quantidade * percentil));
+            long acumulado = 0;
+
+            for (int i = 0; i < contagens.length; i++) {
+                acumulado += contagens[i];
+                if (acumulado >= alvo) {
+                    return Math.min(limiteSuperior(i), maximo);
+                }
+            }
+            return maximo;
+        }
+
+        public long getQuantidade() {
+            return quantidade;
+        }
+
+        public long getMedia() {
+            return quantidade == 0 ? 0 : soma / quantidade;
+        }
+
+        /**
+         * Tempo total gasto, em nanossegundos
+         */
+        public long getSoma() {
+            return soma;
+        }
+
+        public long getMaximo() {
+            return maximo;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.artedaguerra.metricas;
+
+/**
+ * Pontos instrumentados do plugin
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public enum MetricType {
+    // Handlers do LobbyListener
+    INTERACAO("PlayerInteract"),
+    CLIQUE_INVENTARIO("InventoryClick"),
+    ARRASTE_INVENTARIO("InventoryDrag"),
+    QUEBRA_BLOCO("BlockBreak"),
+    COLOCACAO_BLOCO("BlockPlace"),
+    DANO("EntityDamage"),
+    FOME("FoodLevelChange"),
+    DROP_ITEM("PlayerDropItem"),
+    ENTRADA("PlayerJoin"),
+    SAIDA("PlayerQuit"),
+
+    // Demais pontos quentes
+    ABERTURA_MENU("Abertura de menu"),
+    TELEPORTE_TICK("Teleporte (tick)"),
+    TELEPORTE_TOTAL("Teleporte (fila até chegada)"),
+    SCANNER_TICK("Scanner de proximidade (tick)"),
+    CONSTRUCAO_TICK("Construção (tick)");
+
+    private final String descricao;
+
+    MetricType(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
@@ -0,0 +1,236 @@
+package br.com.artedaguerra.metricas;
+
+import br.com.artedaguerra.ArteDaGuerraCore;
+import br.com.artedaguerra.lobby.LobbyManager;
+import br.com.artedaguerra.lobby.LobbyShard;
+import br.com.artedaguerra.lobby.StructureBuilder;
+import br.com.artedaguerra.progressao.ProgressionManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Exportador opcional das métricas do plugin
+ * Pode servir o formato de texto do Prometheus num endereço local e/ou
+ * acrescentar o mesmo texto a um arquivo rotativo. A thread principal só
+ * copia os medidores para valores atômicos uma vez por segundo; a geração
+ * do texto e a E/S acontecem em outras threads
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class MetricsExporter {
+
+    private final ArteDaGuerraCore plugin;
+    private final PerformanceMonitor monitor;
+    private HttpServer servidor;
+    private ExecutorService executorHttp;
+    private BukkitTask tarefaMedidores;
+    private BukkitTask tarefaArquivo;
+    private int shardsExportados = -1; // quantidade de instâncias passada ao monitor na última amostra
+
+    public MetricsExporter(ArteDaGuerraCore plugin, PerformanceMonitor monitor) {
+        this.plugin = plugin;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Inicia os destinos ativados na seção metricas.exportador
+     *
+     * @return falso se nenhum destino foi ativado
+     */
+    public boolean iniciar(ConfigurationSection config) {
+        if (config == null) {
+            return false;
+        }
+
+        boolean ativo = false;
+
+        if (config.getBoolean("http.ativado", false)) {
+            ativo |= iniciarHttp(config.getString("http.endereco", "127.0.0.1"), config.getInt("http.porta", 9465));
+        }
+
+        if (config.getBoolean("arquivo.ativado", false)) {
+            iniciarArquivo(
+                new File(plugin.getDataFolder(), config.getString("arquivo.nome", "metricas.prom")),
+                Math.max(1, config.getInt("arquivo.intervalo", 60)),
+                Math.max(1, config.getLong("arquivo.tamanho_max_kb", 1024)) * 1024L,
+                Math.max(1, config.getInt("arquivo.arquivos", 5)));
+            ativo = true;
+        }
+
+        if (ativo) {
+            tarefaMedidores = Bukkit.getScheduler().runTaskTimer(plugin, this::amostrarMedidores, 20L, 20L);
+        }
+        return ativo;
+    }
+
+    public void finalizar() {
+        if (tarefaMedidores != null) {
+            tarefaMedidores.cancel();
+            tarefaMedidores = null;
+        }
+
+        if (tarefaArquivo != null) {
+            tarefaArquivo.cancel();
+            tarefaArquivo = null;
+        }
+
+        if (servidor != null) {
+            servidor.stop(0);
+            servidor = null;
+        }
+
+        if (executorHttp != null) {
+            executorHttp.shutdownNow();
+            executorHttp = null;
+        }
+    }
+
+    private boolean iniciarHttp(String endereco, int porta) {
+        try {
+            servidor = HttpServer.create(new InetSocketAddress(endereco, porta), 0);
+        } catch (IOException e) {
+            plugin.getLogger().severe("Não foi possível abrir o exportador de métricas em " + endereco + ":" + porta + ": " + e.getMessage());
+            return false;
+        }
+
+        executorHttp = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "ArteDaGuerra-Metricas");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        servidor.createContext("/metrics", this::responder);
+        servidor.setExecutor(executorHttp);
+        servidor.start();
+
+        plugin.getLogger().info("Métricas disponíveis em http://" + endereco + ":" + porta + "/metrics");
+        return true;
+    }
+
+    private void responder(HttpExchange troca) throws IOException {
+        try {
+            if (!"GET".equals(troca.getRequestMethod())) {
+                troca.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] corpo = PrometheusFormatter.formatar(monitor).getBytes(StandardCharsets.UTF_8);
+            troca.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            troca.sendResponseHeaders(200, corpo.length);
+
+            try (OutputStream saida = troca.getResponseBody()) {
+                saida.write(corpo);
+            }
+        } finally {
+            troca.close();
+        }
+    }
+
+    /**
+     * Acrescenta as métricas ao arquivo a cada 'intervalo' segundos, girando-o ao passar do tamanho máximo
+     */
+    private void iniciarArquivo(File arquivo, int intervaloSegundos, long tamanhoMaximo, int arquivos) {
+        long intervalo = intervaloSegundos * 20L;
+
+        tarefaArquivo = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+            try {
+                if (arquivo.length() >= tamanhoMaximo) {
+                    girar(arquivo, arquivos);
+                }
+
+                try (Writer escritor = Files.newBufferedWriter(arquivo.toPath(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    escritor.write("# " + Instant.now() + "\n");
+                    escritor.write(PrometheusFormatter.formatar(monitor));
+                }
+            } catch (IOException e) {
+                plugin.getLogger().warning("Erro ao gravar " + arquivo.getName() + ": " + e.getMessage());
+            }
+        }, intervalo, intervalo);
+
+        plugin.getLogger().info("Métricas gravadas em " + arquivo.getName() + " a cada " + intervaloSegundos + "s.");
+    }
+
+    /**
+     * metricas.prom -> metricas.prom.1 -> ... -> metricas.prom.N (o mais antigo é descartado)
+     */
+    private static void girar(File arquivo, int arquivos) throws IOException {
+        File maisAntigo = new File(arquivo.getPath() + "." + arquivos);
+        Files.deleteIfExists(maisAntigo.toPath());
+
+        for (int i = arquivos - 1; i >= 1; i--) {
+            File origem = new File(arquivo.getPath() + "." + i);
+            if (origem.exists()) {
+                Files.move(origem.toPath(), new File(arquivo.getPath() + "." + (i + 1)).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Files.move(arquivo.toPath(), new File(arquivo.getPath() + ".1").toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Copia os medidores que dependem de estado da thread principal
+     */
+    private void amostrarMedidores() {
+        monitor.definirMedidor(GaugeType.JOGADORES_ONLINE, Bukkit.getOnlinePlayers().size());
+
+        LobbyManager lobbyManager = plugin.getLobbyManager();
+        if (lobbyManager != null) {
+            monitor.definirMedidor(GaugeType.JOGADORES_LOBBY, lobbyManager.getMembership().getQuantidade());
+
+            amostrarShards(lobbyManager);
+
+            StructureBuilder construcao = lobbyManager.getConstrucaoLobby();
+            monitor.definirMedidor(GaugeType.CONSTRUCAO_PENDENTES, construcao != null ? construcao.getPendentes() : 0);
+
+            monitor.definirMedidor(GaugeType.FILA_TELEPORTE,
+                lobbyManager.getTeleportPipeline() != null ? lobbyManager.getTeleportPipeline().getTamanhoFila() : 0);
+        } else if (shardsExportados != 0) {
+            shardsExportados = 0;
+            monitor.definirShardsConfigurados(new int[0]);
+        }
+
+        ProgressionManager progressao = plugin.getProgressionManager();
+        monitor.definirMedidor(GaugeType.PROGRESSAO_PENDENTES, progressao != null ? progressao.getPendentes() : 0);
+    }
+
+    /**
+     * Exporta só as instâncias configuradas agora, então um reload que reduz
+     * a quantidade não deixa valores antigos no Prometheus
+     */
+    private void amostrarShards(LobbyManager lobbyManager) {
+        List<LobbyShard> shards = lobbyManager.getShards();
+        for (LobbyShard shard : shards) {
+            monitor.definirPopulacaoShard(shard.getNumero(), lobbyManager.getPopulacao(shard));
+        }
+
+        // Depois das populações, para uma instância nova não aparecer com o valor antigo
+        if (shards.size() != shardsExportados) {
+            shardsExportados = shards.size();
+            int[] numeros = new int[shards.size()];
+            for (int i = 0; i < numeros.length; i++) {
+                numeros[i] = shards.get(i).getNumero();
+            }
+            monitor.definirShardsConfigurados(numeros);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package br.com.artedaguerra.metricas;
+
+import br.com.artedaguerra.cooldown.CooldownType;
+import br.com.artedaguerra.era.EraAccessCache;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Registro das latências dos pontos quentes do plugin
+ * Cada métrica tem um histograma acumulado (desde o último reset) e um da
+ * janela corrente; a cada 'janela' segundos a janela corrente é copiada
+ * e zerada, e a cópia fica disponível para o /artedaguerra status perf janela.
+ * Também guarda contadores e medidores para o exportador; tudo é atômico
+ * e sem alocação no caminho quente
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class PerformanceMonitor {
+
+    private static final MetricType[] TIPOS = MetricType.values();
+
+    /** Quantidade máxima de instâncias do lobby com população própria */
+    public static final int MAX_SHARDS = 32;
+
+    private final LatencyHistogram[] acumulados;
+    private final LatencyHistogram[] janelaAtual;
+    private volatile LatencyHistogram.Snapshot[] ultimaJanela;
+    private final AtomicLongArray contadores;
+    private final AtomicLongArray teleportesPorDestino; // índice 0 = lobby, N = era N
+    private final AtomicLongArray rejeicoesCooldown;
+    private final AtomicLongArray medidores;
+    private final AtomicLongArray populacaoShards; // índice = número da instância
+    private volatile int[] shardsConfigurados; // números das instâncias da configuração atual
+    private volatile boolean ativado;
+    private volatile long inicioAcumulado;
+    private int janelaSegundos;
+    private BukkitTask tarefaJanela;
+
+    public PerformanceMonitor() {
+        this.acumulados = new LatencyHistogram[TIPOS.length];
+        this.janelaAtual = new LatencyHistogram[TIPOS.length];
+
+        for (int i = 0; i < TIPOS.length; i++) {
+            acumulados[i] = new LatencyHistogram();
+            janelaAtual[i] = new LatencyHistogram();
+        }
+
+        this.ultimaJanela = copiar(janelaAtual);
+        this.inicioAcumulado = System.nanoTime();
+
+        this.contadores = new AtomicLongArray(CounterType.values().length);
+        this.teleportesPorDestino = new AtomicLongArray(EraAccessCache.MAX_ERAS + 1);
+        this.rejeicoesCooldown = new AtomicLongArray(CooldownType.values().length);
+        this.medidores = new AtomicLongArray(GaugeType.values().length);
+        this.populacaoShards = new AtomicLongArray(MAX_SHARDS + 1);
+        this.shardsConfigurados = new int[0];
+    }
+
+    /**
+     * Ativa a coleta e agenda a rotação das janelas
+     */
+    public void iniciar(Plugin plugin, boolean ativado, int janelaSegundos) {
+        this.ativado = ativado;
+        this.janelaSegundos = Math.max(1, janelaSegundos);
+
+        if (ativado) {
+            long intervalo = this.janelaSegundos * 20L;
+            tarefaJanela = plugin.getServer().getScheduler().runTaskTimer(plugin, this::rotacionarJanela, intervalo, intervalo);
+        }
+    }
+
+    public void finalizar() {
+        if (tarefaJanela != null) {
+            tarefaJanela.cancel();
+            tarefaJanela = null;
+        }
+        ativado = false;
+    }
+
+    /**
+     * Registra o tempo decorrido desde 'inicioNanos' (obtido com System.nanoTime())
+     */
+    public void registrar(MetricType tipo, long inicioNanos) {
+        if (!ativado) return;
+        registrarDuracao(tipo, System.nanoTime() - inicioNanos);
+    }
+
+    /**
+     * Registra uma duração já medida
+     */
+    public void registrarDuracao(MetricType tipo, long nanos) {
+        if (!ativado) return;
+
+        int indice = tipo.ordinal();
+        acumulados[indice].registrar(nanos);
+        janelaAtual[indice].registrar(nanos);
+    }
+
+    public void incrementar(CounterType tipo) {
+        if (!ativado) return;
+        contadores.incrementAndGet(tipo.ordinal());
+    }
+
+    /**
+     * Conta um teletransporte concluído (era 0 = lobby)
+     */
+    public void registrarTeleporte(int era) {
+        if (!ativado || era < 0 || era >= teleportesPorDestino.length()) return;
+        teleportesPorDestino.incrementAndGet(era);
+    }
+
+    public void registrarRejeicaoCooldown(CooldownType tipo) {
+        if (!ativado) return;
+        rejeicoesCooldown.incrementAndGet(tipo.ordinal());
+    }
+
+    public void definirMedidor(GaugeType tipo, long valor) {
+        medidores.set(tipo.ordinal(), valor);
+    }
+
+    public void definirPopulacaoShard(int numero, long valor) {
+        if (numero < 1 || numero > MAX_SHARDS) return;
+        populacaoShards.set(numero, valor);
+    }
+
+    /**
+     * Troca as instâncias exportadas (após um reload que muda a quantidade)
+     * Números fora de 1..MAX_SHARDS são ignorados
+     */
+    public void definirShardsConfigurados(int[] numeros) {
+        int[] validos = new int[numeros.length];
+        int quantidade = 0;
+        for (int numero : numeros) {
+            if (numero >= 1 && numero <= MAX_SHARDS) {
+                validos[quantidade++] = numero;
+            }
+        }
+        shardsConfigurados = Arrays.copyOf(validos, quantidade);
+    }
+
+    public int[] getShardsConfigurados() {
+        return shardsConfigurados;
+    }
+
+    public long getContador(CounterType tipo) {
+        return contadores.get(tipo.ordinal());
+    }
+
+    public long getTeleportes(int era) {
+        return teleportesPorDestino.get(era);
+    }
+
+    public long getRejeicoesCooldown(CooldownType tipo) {
+        return rejeicoesCooldown.get(tipo.ordinal());
+    }
+
+    public long getMedidor(GaugeType tipo) {
+        return medidores.get(tipo.ordinal());
+    }
+
+    public long getPopulacaoShard(int numero) {
+        return populacaoShards.get(numero);
+    }
+
+    /**
+     * Fecha a janela corrente e começa outra
+     */
+    public void rotacionarJanela() {
+        LatencyHistogram.Snapshot[] copia = new LatencyHistogram.Snapshot[TIPOS.length];
+        for (int i = 0; i < TIPOS.length; i++) {
+            copia[i] = janelaAtual[i].copiarEZerar();
+        }
+        ultimaJanela = copia;
+    }
+
+    /**
+     * Zera todos os histogramas
+     */
+    public void resetar() {
+        for (int i = 0; i < TIPOS.length; i++) {
+            acumulados[i].zerar();
+            janelaAtual[i].zerar();
+        }
+        ultimaJanela = copiar(janelaAtual);
+        inicioAcumulado = System.nanoTime();
+    }
+
+    public LatencyHistogram.Snapshot getAcumulado(MetricType tipo) {
+        return acumulados[tipo.ordinal()].copiar();
+    }
+
+    public LatencyHistogram.Snapshot getUltimaJanela(MetricType tipo) {
+        return ultimaJanela[tipo.ordinal()];
+    }
+
+    /**
+     * Segundos desde o último reset
+     */
+    public long getSegundosAcumulados() {
+        return (System.nanoTime() - inicioAcumulado) / 1_000_000_000L;
+    }
+
+    public int getJanelaSegundos() {
+        return janelaSegundos;
+    }
+
+    public boolean isAtivado() {
+        return ativado;
+    }
+
+    private static LatencyHistogram.Snapshot[] copiar(LatencyHistogram[] histogramas) {
+        LatencyHistogram.Snapshot[] copia = new LatencyHistogram.Snapshot[histogramas.length];
+        for (int i = 0; i < histogramas.length; i++) {
+            copia[i] = histogramas[i].copiar();
+        }
+        return copia;
+    }
+}
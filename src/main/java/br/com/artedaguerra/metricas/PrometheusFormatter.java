@@ -0,0 +1,110 @@
+package br.com.artedaguerra.metricas;
+
+import br.com.artedaguerra.cooldown.CooldownType;
+import br.com.artedaguerra.era.EraAccessCache;
+
+import java.util.Locale;
+
+/**
+ * Gera o texto no formato de exposição do Prometheus (versão 0.0.4)
+ * Só lê valores atômicos do monitor, então pode rodar em qualquer thread
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class PrometheusFormatter {
+
+    private static final double[] QUANTIS = {0.5, 0.95, 0.99};
+
+    private PrometheusFormatter() {
+    }
+
+    public static String formatar(PerformanceMonitor monitor) {
+        StringBuilder texto = new StringBuilder(4096);
+
+        // Latências
+        cabecalho(texto, "artedaguerra_latencia_segundos", "summary",
+            "Latência dos pontos quentes desde o último reset");
+        for (MetricType tipo : MetricType.values()) {
+            LatencyHistogram.Snapshot snapshot = monitor.getAcumulado(tipo);
+            String rotulo = "metrica=\"" + tipo.name().toLowerCase(Locale.ROOT) + "\"";
+
+            for (double quantil : QUANTIS) {
+                amostra(texto, "artedaguerra_latencia_segundos",
+                    rotulo + ",quantile=\"" + quantil + "\"", segundos(snapshot.getPercentil(quantil)));
+            }
+            amostra(texto, "artedaguerra_latencia_segundos_sum", rotulo, segundos(snapshot.getSoma()));
+            amostra(texto, "artedaguerra_latencia_segundos_count", rotulo, snapshot.getQuantidade());
+        }
+
+        cabecalho(texto, "artedaguerra_latencia_max_segundos", "gauge",
+            "Maior latência desde o último reset");
+        for (MetricType tipo : MetricType.values()) {
+            amostra(texto, "artedaguerra_latencia_max_segundos",
+                "metrica=\"" + tipo.name().toLowerCase(Locale.ROOT) + "\"",
+                segundos(monitor.getAcumulado(tipo).getMaximo()));
+        }
+
+        // Teletransportes por destino
+        cabecalho(texto, "artedaguerra_teleportes_total", "counter", "Teletransportes concluídos por destino");
+        amostra(texto, "artedaguerra_teleportes_total", "destino=\"lobby\"", monitor.getTeleportes(0));
+        for (int era = 1; era <= EraAccessCache.MAX_ERAS; era++) {
+            long quantidade = monitor.getTeleportes(era);
+            if (quantidade > 0) {
+                amostra(texto, "artedaguerra_teleportes_total", "destino=\"era_" + era + "\"", quantidade);
+            }
+        }
+
+        // Rejeições por cooldown
+        cabecalho(texto, "artedaguerra_cooldown_rejeicoes_total", "counter", "Ações recusadas por cooldown");
+        for (CooldownType tipo : CooldownType.values()) {
+            amostra(texto, "artedaguerra_cooldown_rejeicoes_total",
+                "tipo=\"" + tipo.name().toLowerCase(Locale.ROOT) + "\"", monitor.getRejeicoesCooldown(tipo));
+        }
+
+        // Contadores simples
+        for (CounterType tipo : CounterType.values()) {
+            cabecalho(texto, tipo.getNome(), "counter", tipo.getAjuda());
+            amostra(texto, tipo.getNome(), null, monitor.getContador(tipo));
+        }
+
+        // Medidores
+        for (GaugeType tipo : GaugeType.values()) {
+            cabecalho(texto, tipo.getNome(), "gauge", tipo.getAjuda());
+            amostra(texto, tipo.getNome(), null, monitor.getMedidor(tipo));
+        }
+
+        cabecalho(texto, "artedaguerra_lobby_instancia_jogadores", "gauge", "Jogadores em cada instância do lobby");
+        for (int shard : monitor.getShardsConfigurados()) {
+            amostra(texto, "artedaguerra_lobby_instancia_jogadores", "instancia=\"" + shard + "\"",
+                monitor.getPopulacaoShard(shard));
+        }
+
+        return texto.toString();
+    }
+
+    private static void cabecalho(StringBuilder texto, String nome, String tipo, String ajuda) {
+        texto.append("# HELP ").append(nome).append(' ').append(ajuda).append('\n');
+        texto.append("# TYPE ").append(nome).append(' ').append(tipo).append('\n');
+    }
+
+    private static void amostra(StringBuilder texto, String nome, String rotulos, long valor) {
+        inicioAmostra(texto, nome, rotulos).append(valor).append('\n');
+    }
+
+    private static void amostra(StringBuilder texto, String nome, String rotulos, double valor) {
+        inicioAmostra(texto, nome, rotulos).append(valor).append('\n');
+    }
+
+    private static StringBuilder inicioAmostra(StringBuilder texto, String nome, String rotulos) {
+        texto.append(nome);
+        if (rotulos != null) {
+            texto.append('{').append(rotulos).append('}');
+        }
+        return texto.append(' ');
+    }
+
+    private static double segundos(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+}
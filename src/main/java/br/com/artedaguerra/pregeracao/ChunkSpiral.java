@@ -0,0 +1,80 @@
+package br.com.artedaguerra.pregeracao;
+
+/**
+ * Espiral quadrada de chunks ao redor de um centro
+ * A posição N depende só de N, então um trabalho retomado após reiniciar o
+ * servidor volta exatamente ao ponto salvo. Os primeiros (2r+1)² passos cobrem
+ * o quadrado de raio r chunks, começando pelo centro (a área mais visitada)
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+final class ChunkSpiral {
+
+    private final int centroX;
+    private final int centroZ;
+    private int x;
+    private int z;
+    private int direcaoX = 1;
+    private int direcaoZ;
+    private int tamanhoSegmento = 1;
+    private int passosNoSegmento;
+    private boolean segundoSegmento;
+    private long indice;
+
+    ChunkSpiral(int centroX, int centroZ) {
+        this.centroX = centroX;
+        this.centroZ = centroZ;
+    }
+
+    /**
+     * Quantidade de chunks no quadrado de raio informado
+     */
+    static long total(int raioChunks) {
+        long lado = 2L * raioChunks + 1;
+        return lado * lado;
+    }
+
+    int getChunkX() {
+        return centroX + x;
+    }
+
+    int getChunkZ() {
+        return centroZ + z;
+    }
+
+    long getIndice() {
+        return indice;
+    }
+
+    /**
+     * Avança para a próxima posição: segmentos de 1, 1, 2, 2, 3, 3... passos,
+     * virando 90° ao fim de cada um
+     */
+    void avancar() {
+        x += direcaoX;
+        z += direcaoZ;
+        indice++;
+
+        if (++passosNoSegmento == tamanhoSegmento) {
+            passosNoSegmento = 0;
+            int anterior = direcaoX;
+            direcaoX = -direcaoZ;
+            direcaoZ = anterior;
+
+            if (segundoSegmento) {
+                tamanhoSegmento++;
+            }
+            segundoSegmento = !segundoSegmento;
+        }
+    }
+
+    /**
+     * Avança até a posição informada (usado ao retomar um trabalho salvo)
+     */
+    void pularPara(long destino) {
+        while (indice < destino) {
+            avancar();
+        }
+    }
+}
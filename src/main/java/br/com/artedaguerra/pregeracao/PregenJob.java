@@ -0,0 +1,178 @@
+package br.com.artedaguerra.pregeracao;
+
+/**
+ * Pré-geração de chunks de uma era: posição na espiral e taxa medida
+ * Só é acessado na thread principal
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class PregenJob {
+
+    private static final double SUAVIZACAO = 0.3;
+
+    private final int era;
+    private final String mundoNome;
+    private final int centroX;
+    private final int centroZ;
+    private final int raioChunks;
+    private final long total;
+    private final ChunkSpiral espiral;
+
+    private int pendentes;
+    private int falhasMundo;
+    private long adiadoAte; // nanoTime; 0 = não adiado
+    private long gerados;
+    private long processadosNoSegundo;
+    private double chunksPorSegundo;
+
+    PregenJob(int era, String mundoNome, int centroX, int centroZ, int raioChunks, long indice) {
+        this.era = era;
+        this.mundoNome = mundoNome;
+        this.centroX = centroX;
+        this.centroZ = centroZ;
+        this.raioChunks = raioChunks;
+        this.total = ChunkSpiral.total(raioChunks);
+        this.espiral = new ChunkSpiral(centroX, centroZ);
+        this.espiral.pularPara(Math.min(Math.max(0, indice), total));
+    }
+
+    public int getEra() {
+        return era;
+    }
+
+    public String getMundoNome() {
+        return mundoNome;
+    }
+
+    public int getRaioChunks() {
+        return raioChunks;
+    }
+
+    public int getCentroX() {
+        return centroX;
+    }
+
+    public int getCentroZ() {
+        return centroZ;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Chunks já percorridos (gerados agora ou que já existiam)
+     */
+    public long getConcluidos() {
+        return espiral.getIndice() - pendentes;
+    }
+
+    /**
+     * Chunks que não existiam e foram gerados por este trabalho
+     */
+    public long getGerados() {
+        return gerados;
+    }
+
+    public double getChunksPorSegundo() {
+        return chunksPorSegundo;
+    }
+
+    public double getPorcentagem() {
+        return total == 0 ? 100.0 : getConcluidos() * 100.0 / total;
+    }
+
+    /**
+     * Tempo restante estimado pela taxa atual, em segundos (-1 se ainda não houver taxa)
+     */
+    public long getEtaSegundos() {
+        if (chunksPorSegundo < 0.01) {
+            return -1;
+        }
+        return (long) Math.ceil((total - getConcluidos()) / chunksPorSegundo);
+    }
+
+    /**
+     * Posição segura para retomar: os chunks em geração podem terminar fora de
+     * ordem, então volta o máximo de pedidos simultâneos (os já gerados são pulados)
+     */
+    long getIndiceRetomada(int maxPendentes) {
+        return Math.max(0, espiral.getIndice() - Math.max(pendentes, maxPendentes));
+    }
+
+    boolean temProximo() {
+        return espiral.getIndice() < total;
+    }
+
+    boolean isConcluido() {
+        return !temProximo() && pendentes == 0;
+    }
+
+    int getProximoX() {
+        return espiral.getChunkX();
+    }
+
+    int getProximoZ() {
+        return espiral.getChunkZ();
+    }
+
+    void avancar() {
+        espiral.avancar();
+    }
+
+    /**
+     * Se o trabalho está esperando para tentar carregar o mundo de novo
+     */
+    boolean isAdiado(long agora) {
+        return adiadoAte != 0 && agora - adiadoAte < 0;
+    }
+
+    void adiar(long ate) {
+        adiadoAte = ate;
+    }
+
+    /**
+     * @return quantas vezes seguidas o mundo não pôde ser carregado
+     */
+    int registrarFalhaMundo() {
+        return ++falhasMundo;
+    }
+
+    void limparFalhasMundo() {
+        falhasMundo = 0;
+        adiadoAte = 0;
+    }
+
+    int getPendentes() {
+        return pendentes;
+    }
+
+    void iniciarPendente() {
+        pendentes++;
+    }
+
+    void concluirPendente() {
+        pendentes--;
+    }
+
+    /**
+     * Registra um chunk processado (gerado = não existia antes)
+     */
+    void registrar(boolean gerado) {
+        processadosNoSegundo++;
+        if (gerado) {
+            gerados++;
+        }
+    }
+
+    /**
+     * Fecha a amostra do último segundo na média móvel da taxa
+     */
+    void amostrarSegundo() {
+        chunksPorSegundo = chunksPorSegundo == 0
+            ? processadosNoSegundo
+            : chunksPorSegundo + SUAVIZACAO * (processadosNoSegundo - chunksPorSegundo);
+        processadosNoSegundo = 0;
+    }
+}
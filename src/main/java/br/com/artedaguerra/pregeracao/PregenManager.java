@@ -0,0 +1,465 @@
+package br.com.artedaguerra.pregeracao;
+
+import br.com.artedaguerra.ArteDaGuerraCore;
+import br.com.artedaguerra.era.EraDefinition;
+import br.com.artedaguerra.era.EraWorldManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pré-geração dos chunks dos mundos das eras
+ * Os chunks são percorridos em espiral a partir do spawn da era, um trabalho
+ * por vez. A cada tick o ritmo é ajustado pela carga do servidor: com o tick
+ * acima do limite ou jogadores demais online o trabalho pausa, e abaixo disso
+ * a cota diminui conforme os jogadores entram. No Paper os chunks são gerados
+ * de forma assíncrona (getChunkAtAsync) com um limite de pedidos simultâneos;
+ * no Spigot são gerados no tick, dentro de um orçamento de tempo. O progresso
+ * é gravado periodicamente em pregeracao.yml e retomado ao reiniciar
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class PregenManager extends BukkitRunnable {
+
+    public enum Estado {
+        GERANDO("§agerando"),
+        PAUSADO_TPS("§cpausado (TPS)"),
+        PAUSADO_JOGADORES("§epausado (jogadores)"),
+        AGUARDANDO_MUNDO("§eaguardando o mundo"),
+        NA_FILA("§7na fila");
+
+        private final String descricao;
+
+        Estado(String descricao) {
+            this.descricao = descricao;
+        }
+
+        public String getDescricao() {
+            return descricao;
+        }
+    }
+
+    private static final Method CHUNK_ASYNC = buscarMetodo(World.class, "getChunkAtAsync", int.class, int.class);
+    private static final Method TICK_MEDIO = buscarMetodo(Server.class, "getAverageTickTime");
+    private static final double SUAVIZACAO_TICK = 0.1;
+    private static final int TICKS_LOG = 20 * 60;
+    private static final long ESPERA_MUNDO_SEGUNDOS = 60;
+    private static final long ESPERA_MUNDO_MAX_SEGUNDOS = 600;
+
+    private final ArteDaGuerraCore plugin;
+    private final File arquivo;
+    private final Map<Integer, PregenJob> trabalhos;
+    private final ExecutorService escritor;
+
+    private long orcamentoNanos;
+    private double msptMax;
+    private double intervaloMaxMs;
+    private int jogadoresMax;
+    private int maxPendentes;
+    private long ticksSalvar;
+
+    private Estado estado = Estado.NA_FILA;
+    private PregenJob ativo;
+    private double intervaloMedioMs = 50.0;
+    private long ultimoTick;
+    private long ticks;
+    private boolean alterado;
+    private boolean aguardandoMundo;
+
+    public PregenManager(ArteDaGuerraCore plugin, File arquivo) {
+        this.plugin = plugin;
+        this.arquivo = arquivo;
+        this.trabalhos = new LinkedHashMap<>();
+        this.escritor = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "ArteDaGuerra-Pregeracao");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Retoma os trabalhos salvos e inicia o processamento
+     *
+     * @param orcamentoMs tempo máximo por tick gerando chunks na thread principal
+     * @param msptMax tempo médio de tick (Paper) acima do qual o trabalho pausa
+     * @param tpsMin TPS estimado (Spigot) abaixo do qual o trabalho pausa
+     * @param jogadoresMax jogadores online acima dos quais o trabalho pausa
+     * @param maxPendentes chunks gerados ao mesmo tempo no Paper
+     * @param salvarSegundos intervalo entre gravações do progresso
+     */
+    public void iniciar(long orcamentoMs, double msptMax, double tpsMin, int jogadoresMax,
+                        int maxPendentes, long salvarSegundos) {
+        this.orcamentoNanos = Math.max(1, orcamentoMs) * 1_000_000L;
+        this.msptMax = msptMax;
+        this.intervaloMaxMs = 1000.0 / Math.max(1.0, Math.min(20.0, tpsMin));
+        this.jogadoresMax = Math.max(0, jogadoresMax);
+        this.maxPendentes = Math.max(1, maxPendentes);
+        this.ticksSalvar = Math.max(1, salvarSegundos) * 20L;
+
+        carregar();
+        runTaskTimer(plugin, 1L, 1L);
+    }
+
+    /**
+     * Para o processamento e grava o progresso na hora
+     */
+    public void finalizar() {
+        cancel();
+        salvar(false);
+
+        escritor.shutdown();
+        try {
+            if (!escritor.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Gravação da pré-geração ainda em andamento ao desligar.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Agenda a pré-geração de um quadrado de raio informado ao redor do spawn da era
+     *
+     * @return o trabalho criado, ou null se a era já tiver um trabalho
+     */
+    public PregenJob adicionar(EraDefinition era, World world, int raioBlocos) {
+        if (trabalhos.containsKey(era.getNumero())) {
+            return null;
+        }
+
+        Location spawn = world.getSpawnLocation();
+        int raioChunks = (Math.max(1, raioBlocos) + 15) >> 4;
+        PregenJob trabalho = new PregenJob(era.getNumero(), world.getName(),
+            spawn.getBlockX() >> 4, spawn.getBlockZ() >> 4, raioChunks, 0);
+
+        trabalhos.put(era.getNumero(), trabalho);
+        salvar(true);
+        return trabalho;
+    }
+
+    /**
+     * Cancela o trabalho da era (os chunks já gerados ficam no mundo)
+     */
+    public boolean parar(int era) {
+        if (trabalhos.remove(era) == null) {
+            return false;
+        }
+        aguardandoMundo = false;
+        salvar(true);
+        return true;
+    }
+
+    public PregenJob getTrabalho(int era) {
+        return trabalhos.get(era);
+    }
+
+    /**
+     * Trabalhos na ordem em que serão processados (o primeiro que não estiver esperando pelo mundo é o ativo)
+     */
+    public Collection<PregenJob> getTrabalhos() {
+        return Collections.unmodifiableCollection(trabalhos.values());
+    }
+
+    /**
+     * Estado do trabalho informado
+     */
+    public Estado getEstado(PregenJob trabalho) {
+        if (trabalho.isAdiado(System.nanoTime())) {
+            return Estado.AGUARDANDO_MUNDO;
+        }
+        return trabalho == ativo ? estado : Estado.NA_FILA;
+    }
+
+    @Override
+    public void run() {
+        long agora = System.nanoTime();
+        if (ultimoTick != 0) {
+            intervaloMedioMs += SUAVIZACAO_TICK * ((agora - ultimoTick) / 1_000_000.0 - intervaloMedioMs);
+        }
+        ultimoTick = agora;
+        ticks++;
+
+        // O primeiro trabalho que não está esperando pelo mundo
+        PregenJob trabalho = null;
+        for (PregenJob candidato : trabalhos.values()) {
+            if (!candidato.isAdiado(agora)) {
+                trabalho = candidato;
+                break;
+            }
+        }
+
+        ativo = trabalho;
+        if (trabalho == null) {
+            return;
+        }
+
+        estado = processar(trabalho);
+
+        if (ticks % 20 == 0 && estado == Estado.GERANDO) {
+            trabalho.amostrarSegundo();
+        }
+
+        if (trabalho.isConcluido()) {
+            concluir(trabalho);
+        } else if (ticks % TICKS_LOG == 0 && estado == Estado.GERANDO) {
+            plugin.getLogger().info("Pré-geração da era " + trabalho.getEra() + ": " + descrever(trabalho));
+        }
+
+        if (alterado && ticks % ticksSalvar == 0) {
+            salvar(true);
+        }
+    }
+
+    /**
+     * Resumo do progresso: chunks, porcentagem, taxa e tempo restante
+     */
+    public static String descrever(PregenJob trabalho) {
+        return trabalho.getConcluidos() + "/" + trabalho.getTotal() + " chunks ("
+            + String.format("%.1f%%", trabalho.getPorcentagem()) + "), "
+            + String.format("%.1f", trabalho.getChunksPorSegundo()) + " chunks/s, ETA "
+            + formatarDuracao(trabalho.getEtaSegundos());
+    }
+
+    public static String formatarDuracao(long segundos) {
+        if (segundos < 0) {
+            return "--";
+        }
+        if (segundos >= 3600) {
+            return String.format("%dh%02dm%02ds", segundos / 3600, (segundos % 3600) / 60, segundos % 60);
+        }
+        return String.format("%dm%02ds", segundos / 60, segundos % 60);
+    }
+
+    private Estado processar(PregenJob trabalho) {
+        World world = resolverMundo(trabalho);
+        if (world == null) {
+            return Estado.AGUARDANDO_MUNDO;
+        }
+
+        int online = Bukkit.getOnlinePlayers().size();
+        if (online > jogadoresMax) {
+            return Estado.PAUSADO_JOGADORES;
+        }
+        if (isSobrecarregado()) {
+            return Estado.PAUSADO_TPS;
+        }
+
+        // A cota cai conforme os jogadores entram, até pausar acima do limite
+        double fator = 1.0 - (double) online / (jogadoresMax + 1);
+        long limite = System.nanoTime() + Math.max(1_000_000L, (long) (orcamentoNanos * fator));
+        int pendentesMax = Math.max(1, (int) (maxPendentes * fator));
+
+        while (trabalho.temProximo() && System.nanoTime() < limite) {
+            if (CHUNK_ASYNC != null && trabalho.getPendentes() >= pendentesMax) {
+                break;
+            }
+
+            int x = trabalho.getProximoX();
+            int z = trabalho.getProximoZ();
+            trabalho.avancar();
+            alterado = true;
+
+            if (world.isChunkGenerated(x, z)) {
+                trabalho.registrar(false);
+            } else if (CHUNK_ASYNC == null || !gerarAssincrono(trabalho, world, x, z)) {
+                world.loadChunk(x, z, true);
+                world.unloadChunkRequest(x, z);
+                trabalho.registrar(true);
+            }
+        }
+        return Estado.GERANDO;
+    }
+
+    /**
+     * Mundo do trabalho, mantendo-o carregado enquanto houver chunks a gerar
+     */
+    private World resolverMundo(PregenJob trabalho) {
+        EraWorldManager mundos = plugin.getEraWorldManager();
+        EraDefinition era = plugin.getEraRegistry().getEra(trabalho.getEra());
+        boolean gerenciado = mundos != null && era != null && trabalho.getMundoNome().equals(era.getMundoNome());
+
+        World world = Bukkit.getWorld(trabalho.getMundoNome());
+        if (world != null) {
+            trabalho.limparFalhasMundo();
+            if (gerenciado && ticks % 20 == 0) {
+                mundos.usar(era);
+            }
+            return world;
+        }
+
+        if (!gerenciado) {
+            adiar(trabalho);
+        } else if (!aguardandoMundo) {
+            aguardandoMundo = true;
+            mundos.solicitar(era, carregado -> {
+                aguardandoMundo = false;
+                if (carregado == null && trabalhos.get(trabalho.getEra()) == trabalho) {
+                    adiar(trabalho);
+                }
+            });
+        }
+        return null;
+    }
+
+    /**
+     * Deixa o trabalho de lado quando o mundo não pode ser carregado (não existe no
+     * disco ou falhou ao carregar), com espera crescente entre as tentativas, para
+     * não tentar de novo a cada tick nem travar os trabalhos que estão na fila atrás dele
+     */
+    private void adiar(PregenJob trabalho) {
+        int falhas = trabalho.registrarFalhaMundo();
+        long espera = Math.min(ESPERA_MUNDO_MAX_SEGUNDOS, ESPERA_MUNDO_SEGUNDOS << Math.min(falhas - 1, 4));
+        trabalho.adiar(System.nanoTime() + espera * 1_000_000_000L);
+
+        plugin.getLogger().warning("Mundo '" + trabalho.getMundoNome() + "' da pré-geração da era "
+            + trabalho.getEra() + " indisponível; nova tentativa em " + espera + "s.");
+    }
+
+    private boolean gerarAssincrono(PregenJob trabalho, World world, int x, int z) {
+        try {
+            CompletableFuture<?> futuro = (CompletableFuture<?>) CHUNK_ASYNC.invoke(world, x, z);
+            trabalho.iniciarPendente();
+            futuro.whenComplete((chunk, erro) -> naThreadPrincipal(() -> {
+                trabalho.concluirPendente();
+                if (erro != null) {
+                    plugin.getLogger().warning("Erro ao gerar o chunk " + x + "," + z + " de '"
+                        + trabalho.getMundoNome() + "': " + erro.getMessage());
+                    return;
+                }
+                world.unloadChunkRequest(x, z);
+                trabalho.registrar(true);
+            }));
+            return true;
+        } catch (ReflectiveOperationException e) {
+            plugin.getLogger().warning("Falha no getChunkAtAsync, gerando na thread principal: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * No Paper usa o tempo médio de tick do servidor; no Spigot estima pelo
+     * intervalo médio entre execuções desta tarefa (50 ms = 20 TPS)
+     */
+    private boolean isSobrecarregado() {
+        if (TICK_MEDIO != null) {
+            try {
+                return ((Number) TICK_MEDIO.invoke(Bukkit.getServer())).doubleValue() > msptMax;
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                // Segue com a estimativa pelo intervalo
+            }
+        }
+        return intervaloMedioMs > intervaloMaxMs;
+    }
+
+    private void concluir(PregenJob trabalho) {
+        trabalhos.remove(trabalho.getEra());
+        aguardandoMundo = false;
+        ativo = null;
+        estado = Estado.NA_FILA;
+        salvar(true);
+
+        plugin.getLogger().info("Pré-geração da era " + trabalho.getEra() + " concluída: "
+            + trabalho.getTotal() + " chunks percorridos, " + trabalho.getGerados() + " gerados.");
+    }
+
+    private void naThreadPrincipal(Runnable acao) {
+        if (Bukkit.isPrimaryThread()) {
+            acao.run();
+        } else if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, acao);
+        }
+    }
+
+    private void carregar() {
+        if (!arquivo.exists()) {
+            return;
+        }
+
+        YamlConfiguration yaml = YamlConfiguration.loadConfiguration(arquivo);
+        for (String chave : yaml.getKeys(false)) {
+            ConfigurationSection secao = yaml.getConfigurationSection(chave);
+            if (secao == null || secao.getString("mundo") == null) {
+                continue;
+            }
+
+            PregenJob trabalho = new PregenJob(secao.getInt("era"), secao.getString("mundo"),
+                secao.getInt("centro_x"), secao.getInt("centro_z"), secao.getInt("raio"), secao.getLong("indice"));
+            trabalhos.put(trabalho.getEra(), trabalho);
+
+            plugin.getLogger().info("Retomando pré-geração da era " + trabalho.getEra() + " em "
+                + String.format("%.1f%%", trabalho.getPorcentagem()) + ".");
+        }
+    }
+
+    /**
+     * Serializa o progresso na thread principal e grava (na fila de escrita, se assíncrono)
+     */
+    private void salvar(boolean assincrono) {
+        YamlConfiguration yaml = new YamlConfiguration();
+        for (PregenJob trabalho : trabalhos.values()) {
+            String chave = "era_" + trabalho.getEra();
+            yaml.set(chave + ".era", trabalho.getEra());
+            yaml.set(chave + ".mundo", trabalho.getMundoNome());
+            yaml.set(chave + ".centro_x", trabalho.getCentroX());
+            yaml.set(chave + ".centro_z", trabalho.getCentroZ());
+            yaml.set(chave + ".raio", trabalho.getRaioChunks());
+            yaml.set(chave + ".indice", trabalho.getIndiceRetomada(maxPendentes));
+        }
+
+        String conteudo = trabalhos.isEmpty() ? null : yaml.saveToString();
+        alterado = false;
+
+        if (assincrono && !escritor.isShutdown()) {
+            escritor.execute(() -> gravar(conteudo));
+        } else {
+            gravar(conteudo);
+        }
+    }
+
+    private void gravar(String conteudo) {
+        try {
+            if (conteudo == null) {
+                Files.deleteIfExists(arquivo.toPath());
+                return;
+            }
+
+            File temporario = new File(arquivo.getParentFile(), arquivo.getName() + ".tmp");
+            Files.createDirectories(arquivo.getParentFile().toPath());
+            Files.write(temporario.toPath(), conteudo.getBytes(StandardCharsets.UTF_8));
+
+            // Troca atômica: uma gravação interrompida não perde o progresso anterior
+            Files.move(temporario.toPath(), arquivo.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Erro ao salvar o progresso da pré-geração: " + e.getMessage());
+        }
+    }
+
+    private static Method buscarMetodo(Class<?> classe, String nome, Class<?>... parametros) {
+        try {
+            return classe.getMethod(nome, parametros);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.artedaguerra.progressao;
+
+import br.com.artedaguerra.era.EraAccessCache;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Progressão de um jogador pelas eras
+ * Guarda as eras liberadas individualmente (bit N-1 = era N, como na máscara
+ * de acesso), a última era visitada e o momento da última visita a cada era.
+ * É alterada só na thread principal; a escrita em disco trabalha sobre cópias
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class PlayerProgression {
+
+    private final UUID playerId;
+    private int erasDesbloqueadas;
+    private int ultimaEra;
+    private final long[] visitas; // índice = era, milissegundos desde a época, 0 = nunca
+
+    public PlayerProgression(UUID playerId) {
+        this(playerId, 0, 0, new long[EraAccessCache.MAX_ERAS + 1]);
+    }
+
+    PlayerProgression(UUID playerId, int erasDesbloqueadas, int ultimaEra, long[] visitas) {
+        this.playerId = playerId;
+        this.erasDesbloqueadas = erasDesbloqueadas;
+        this.ultimaEra = ultimaEra;
+        this.visitas = visitas;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * Máscara das eras liberadas para o jogador
+     */
+    public int getErasDesbloqueadas() {
+        return erasDesbloqueadas;
+    }
+
+    public boolean isDesbloqueada(int era) {
+        return isValida(era) && (erasDesbloqueadas & (1 << (era - 1))) != 0;
+    }
+
+    /**
+     * @return verdadeiro se a era ainda não estava liberada
+     */
+    public boolean desbloquear(int era) {
+        if (!isValida(era) || isDesbloqueada(era)) {
+            return false;
+        }
+        erasDesbloqueadas |= 1 << (era - 1);
+        return true;
+    }
+
+    /**
+     * @return verdadeiro se a era estava liberada
+     */
+    public boolean bloquear(int era) {
+        if (!isDesbloqueada(era)) {
+            return false;
+        }
+        erasDesbloqueadas &= ~(1 << (era - 1));
+        return true;
+    }
+
+    public int getUltimaEra() {
+        return ultimaEra;
+    }
+
+    /**
+     * Momento da última visita à era (0 se nunca visitou)
+     */
+    public long getUltimaVisita(int era) {
+        return isValida(era) ? visitas[era] : 0L;
+    }
+
+    /**
+     * Registra a chegada do jogador a uma era
+     */
+    public void registrarVisita(int era, long momento) {
+        if (!isValida(era)) {
+            return;
+        }
+        ultimaEra = era;
+        visitas[era] = momento;
+    }
+
+    /**
+     * Cópia independente, usada para gravar fora da thread principal
+     */
+    public PlayerProgression copiar() {
+        return new PlayerProgression(playerId, erasDesbloqueadas, ultimaEra, Arrays.copyOf(visitas, visitas.length));
+    }
+
+    private static boolean isValida(int era) {
+        return era >= 1 && era <= EraAccessCache.MAX_ERAS;
+    }
+}
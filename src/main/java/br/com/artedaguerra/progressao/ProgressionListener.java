@@ -0,0 +1,83 @@
+package br.com.artedaguerra.progressao;
+
+import br.com.artedaguerra.ArteDaGuerraCore;
+import br.com.artedaguerra.era.EraDefinition;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.io.IOException;
+
+/**
+ * Carrega, atualiza e descarrega a progressão dos jogadores
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class ProgressionListener implements Listener {
+
+    private final ArteDaGuerraCore plugin;
+    private final ProgressionManager progressionManager;
+
+    public ProgressionListener(ArteDaGuerraCore plugin, ProgressionManager progressionManager) {
+        this.plugin = plugin;
+        this.progressionManager = progressionManager;
+    }
+
+    /**
+     * Carrega o perfil ainda no pré-login, fora da thread principal
+     * Se o carregamento falhar a entrada é recusada, para não sobrescrever o progresso salvo
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+
+        try {
+            progressionManager.carregar(event.getUniqueId());
+        } catch (IOException e) {
+            plugin.getLogger().severe("Erro ao carregar progressão de " + event.getName() + ": " + e.getMessage());
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER,
+                "§cNão foi possível carregar seu progresso. Tente novamente em instantes.");
+        }
+    }
+
+    /**
+     * Descarta o perfil carregado no pré-login quando a entrada é recusada depois
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            progressionManager.descartarSeOffline(event.getPlayer().getUniqueId());
+        }
+    }
+
+    /**
+     * Garante o perfil de quem entrou sem passar pelo pré-login deste plugin (ex.: reload)
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        if (progressionManager.getPerfil(event.getPlayer().getUniqueId()) == null) {
+            progressionManager.carregarAssincrono(event.getPlayer().getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        EraDefinition era = plugin.getEraRegistry().getEraPorMundo(event.getPlayer().getWorld().getName());
+        if (era != null) {
+            progressionManager.registrarVisita(event.getPlayer(), era);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        progressionManager.descarregar(event.getPlayer().getUniqueId());
+    }
+}
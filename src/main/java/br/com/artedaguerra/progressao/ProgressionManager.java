@@ -0,0 +1,316 @@
+package br.com.artedaguerra.progressao;
+
+import br.com.artedaguerra.ArteDaGuerraCore;
+import br.com.artedaguerra.era.EraDefinition;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gerenciador da progressão dos jogadores
+ * Os perfis são carregados no AsyncPlayerPreLoginEvent, então a entrada nunca
+ * espera por disco. Alterações marcam o perfil como sujo; a cada save_intervalo
+ * os sujos são copiados na thread principal e gravados em lote por uma única
+ * thread de escrita (as gravações de um mesmo jogador ficam em ordem).
+ * Cópias ainda não gravadas ficam em 'emEscrita', para que um jogador que
+ * sai e volta rapidamente não carregue dados antigos do disco
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class ProgressionManager {
+
+    private final ArteDaGuerraCore plugin;
+    private final ProgressionStorage storage;
+    private final Map<UUID, PlayerProgression> perfis;
+    private final Map<UUID, PlayerProgression> emEscrita;
+    private final Set<UUID> sujos; // só na thread principal
+    private final ExecutorService escritor;
+    private BukkitTask tarefaSalvamento;
+
+    public ProgressionManager(ArteDaGuerraCore plugin, ProgressionStorage storage) {
+        this.plugin = plugin;
+        this.storage = storage;
+        this.perfis = new ConcurrentHashMap<>();
+        this.emEscrita = new ConcurrentHashMap<>();
+        this.sujos = new HashSet<>();
+        this.escritor = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "ArteDaGuerra-Progressao");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Abre o armazenamento, carrega quem já está online e agenda o salvamento automático
+     *
+     * @param intervaloSegundos intervalo entre salvamentos; 0 desativa o salvamento periódico
+     */
+    public void iniciar(long intervaloSegundos) throws IOException {
+        storage.abrir();
+
+        // Jogadores que já estavam online (ex.: após um reload do servidor)
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            carregarAssincrono(player.getUniqueId());
+        }
+
+        if (intervaloSegundos > 0) {
+            long intervalo = intervaloSegundos * 20L;
+            tarefaSalvamento = Bukkit.getScheduler().runTaskTimer(plugin, this::salvarAlteracoes, intervalo, intervalo);
+        }
+    }
+
+    /**
+     * Salva tudo o que estiver pendente e fecha o armazenamento
+     * Chamado no onDisable, quando bloquear a thread principal é aceitável
+     */
+    public void finalizar() {
+        if (tarefaSalvamento != null) {
+            tarefaSalvamento.cancel();
+            tarefaSalvamento = null;
+        }
+
+        // As cópias dos sujos entram em 'emEscrita' junto com as que ainda não foram gravadas
+        coletarSujos();
+
+        escritor.shutdown();
+        try {
+            if (!escritor.awaitTermination(10, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Gravação de progressão ainda em andamento ao desligar.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // O que sobrou em 'emEscrita' falhou ou não chegou a ser gravado
+        List<PlayerProgression> lote = new ArrayList<>(emEscrita.values());
+
+        try {
+            storage.salvar(lote);
+        } catch (IOException e) {
+            plugin.getLogger().severe("Erro ao salvar progressão ao desligar: " + e.getMessage());
+        }
+
+        storage.fechar();
+        perfis.clear();
+        emEscrita.clear();
+    }
+
+    /**
+     * Carrega o perfil de um jogador na thread atual (chamado no pré-login assíncrono)
+     */
+    public void carregar(UUID playerId) throws IOException {
+        if (perfis.containsKey(playerId)) {
+            return;
+        }
+
+        // Uma cópia ainda não gravada é mais nova que o disco
+        PlayerProgression pendente = emEscrita.get(playerId);
+        PlayerProgression perfil = pendente != null ? pendente.copiar() : storage.carregar(playerId);
+        perfis.putIfAbsent(playerId, perfil);
+    }
+
+    /**
+     * Carrega o perfil fora da thread principal e recalcula o acesso quando terminar
+     */
+    public void carregarAssincrono(UUID playerId) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                carregar(playerId);
+            } catch (IOException e) {
+                plugin.getLogger().severe("Erro ao carregar progressão de " + playerId + ": " + e.getMessage());
+                return;
+            }
+
+            if (!plugin.isEnabled()) return;
+
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                Player player = Bukkit.getPlayer(playerId);
+                if (player != null) {
+                    plugin.getEraAccessCache().atualizar(player);
+                } else {
+                    // Saiu antes de o carregamento terminar; o quit já passou
+                    descartarSeOffline(playerId);
+                }
+            });
+        });
+    }
+
+    /**
+     * Descarta o perfil de quem saiu, enviando alterações pendentes para gravação
+     */
+    public void descarregar(UUID playerId) {
+        if (sujos.remove(playerId)) {
+            PlayerProgression perfil = perfis.get(playerId);
+            if (perfil != null) {
+                List<PlayerProgression> lote = new ArrayList<>(1);
+                lote.add(copiarParaEscrita(perfil));
+                gravar(lote);
+            }
+        }
+
+        perfis.remove(playerId);
+    }
+
+    /**
+     * Descarta o perfil de um jogador que não está online
+     * Cobre as entradas recusadas depois do pré-login (servidor cheio, whitelist,
+     * ban) e os carregamentos que terminam depois da saída, que não têm quit
+     */
+    public void descartarSeOffline(UUID playerId) {
+        if (Bukkit.getPlayer(playerId) == null) {
+            descarregar(playerId);
+        }
+    }
+
+    /**
+     * Obtém o perfil carregado de um jogador
+     *
+     * @return o perfil, ou null se ainda não foi carregado
+     */
+    public PlayerProgression getPerfil(UUID playerId) {
+        return perfis.get(playerId);
+    }
+
+    /**
+     * Máscara das eras liberadas individualmente para o jogador (0 se o perfil não estiver carregado)
+     */
+    public int getErasDesbloqueadas(UUID playerId) {
+        PlayerProgression perfil = perfis.get(playerId);
+        return perfil != null ? perfil.getErasDesbloqueadas() : 0;
+    }
+
+    /**
+     * Libera uma era para um jogador online
+     */
+    public boolean desbloquear(Player player, int era) {
+        PlayerProgression perfil = perfis.get(player.getUniqueId());
+        if (perfil == null || !perfil.desbloquear(era)) {
+            return false;
+        }
+
+        marcarSujo(player.getUniqueId());
+        plugin.getEraAccessCache().atualizar(player);
+        return true;
+    }
+
+    /**
+     * Remove a liberação individual de uma era
+     */
+    public boolean bloquear(Player player, int era) {
+        PlayerProgression perfil = perfis.get(player.getUniqueId());
+        if (perfil == null || !perfil.bloquear(era)) {
+            return false;
+        }
+
+        marcarSujo(player.getUniqueId());
+        plugin.getEraAccessCache().atualizar(player);
+        return true;
+    }
+
+    /**
+     * Registra a chegada de um jogador ao mundo de uma era
+     */
+    public void registrarVisita(Player player, EraDefinition era) {
+        PlayerProgression perfil = perfis.get(player.getUniqueId());
+        if (perfil == null) {
+            return;
+        }
+
+        perfil.registrarVisita(era.getNumero(), System.currentTimeMillis());
+        marcarSujo(player.getUniqueId());
+    }
+
+    /**
+     * Envia os perfis alterados desde o último salvamento para gravação em lote
+     */
+    public void salvarAlteracoes() {
+        List<PlayerProgression> lote = coletarSujos();
+        if (!lote.isEmpty()) {
+            gravar(lote);
+        }
+    }
+
+    /**
+     * Quantidade de perfis alterados aguardando o próximo salvamento
+     */
+    public int getPendentes() {
+        return sujos.size();
+    }
+
+    public int getCarregados() {
+        return perfis.size();
+    }
+
+    private void marcarSujo(UUID playerId) {
+        sujos.add(playerId);
+    }
+
+    private List<PlayerProgression> coletarSujos() {
+        List<PlayerProgression> lote = new ArrayList<>(sujos.size());
+
+        for (UUID playerId : sujos) {
+            PlayerProgression perfil = perfis.get(playerId);
+            if (perfil != null) {
+                lote.add(copiarParaEscrita(perfil));
+            }
+        }
+
+        sujos.clear();
+        return lote;
+    }
+
+    private PlayerProgression copiarParaEscrita(PlayerProgression perfil) {
+        PlayerProgression copia = perfil.copiar();
+        emEscrita.put(copia.getPlayerId(), copia);
+        return copia;
+    }
+
+    /**
+     * Grava um lote na thread de escrita
+     */
+    private void gravar(List<PlayerProgression> lote) {
+        escritor.execute(() -> {
+            try {
+                storage.salvar(lote);
+            } catch (IOException e) {
+                plugin.getLogger().severe("Erro ao salvar progressão: " + e.getMessage());
+                remarcar(lote);
+                return;
+            }
+
+            // Só descarta a cópia se nenhuma mais nova entrou no lugar
+            for (PlayerProgression copia : lote) {
+                emEscrita.remove(copia.getPlayerId(), copia);
+            }
+        });
+    }
+
+    /**
+     * Após uma falha, volta a marcar como sujos os jogadores ainda online
+     * Os demais continuam em 'emEscrita' e são gravados ao desligar
+     */
+    private void remarcar(List<PlayerProgression> lote) {
+        if (!plugin.isEnabled()) return;
+
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            for (PlayerProgression copia : lote) {
+                if (perfis.containsKey(copia.getPlayerId())) {
+                    sujos.add(copia.getPlayerId());
+                }
+            }
+        });
+    }
+}
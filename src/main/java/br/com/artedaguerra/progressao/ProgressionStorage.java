@@ -0,0 +1,38 @@
+package br.com.artedaguerra.progressao;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Armazenamento da progressão dos jogadores
+ * Os métodos fazem E/S e nunca devem ser chamados na thread principal,
+ * exceto na abertura e no fechamento do plugin
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public interface ProgressionStorage {
+
+    /**
+     * Abre o armazenamento, criando a estrutura se necessário
+     */
+    void abrir() throws IOException;
+
+    /**
+     * Carrega a progressão de um jogador
+     *
+     * @return a progressão salva, ou uma progressão vazia para jogadores novos
+     */
+    PlayerProgression carregar(UUID playerId) throws IOException;
+
+    /**
+     * Grava um lote de progressões em uma única transação
+     */
+    void salvar(Collection<PlayerProgression> perfis) throws IOException;
+
+    /**
+     * Fecha o armazenamento
+     */
+    void fechar();
+}
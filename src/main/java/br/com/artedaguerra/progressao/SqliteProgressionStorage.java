@@ -0,0 +1,163 @@
+package br.com.artedaguerra.progressao;
+
+import br.com.artedaguerra.era.EraAccessCache;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Armazenamento da progressão em um arquivo SQLite local
+ * Usa o driver que já acompanha o servidor (org.sqlite.JDBC) e uma única
+ * conexão; os acessos são serializados, então carregamentos e gravações
+ * de threads diferentes não se misturam
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class SqliteProgressionStorage implements ProgressionStorage {
+
+    private final File arquivo;
+    private Connection conexao;
+
+    public SqliteProgressionStorage(File arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    @Override
+    public synchronized void abrir() throws IOException {
+        try {
+            Class.forName("org.sqlite.JDBC");
+            conexao = DriverManager.getConnection("jdbc:sqlite:" + arquivo.getAbsolutePath());
+
+            try (Statement statement = conexao.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("CREATE TABLE IF NOT EXISTS progressao ("
+                    + "uuid TEXT PRIMARY KEY, "
+                    + "eras_desbloqueadas INTEGER NOT NULL, "
+                    + "ultima_era INTEGER NOT NULL)");
+                statement.execute("CREATE TABLE IF NOT EXISTS visitas ("
+                    + "uuid TEXT NOT NULL, "
+                    + "era INTEGER NOT NULL, "
+                    + "ultima_visita INTEGER NOT NULL, "
+                    + "PRIMARY KEY (uuid, era))");
+            }
+        } catch (ClassNotFoundException | SQLException e) {
+            throw new IOException("Não foi possível abrir " + arquivo.getName(), e);
+        }
+    }
+
+    @Override
+    public synchronized PlayerProgression carregar(UUID playerId) throws IOException {
+        String id = playerId.toString();
+        int erasDesbloqueadas = 0;
+        int ultimaEra = 0;
+        long[] visitas = new long[EraAccessCache.MAX_ERAS + 1];
+
+        try {
+            try (PreparedStatement statement = conexao.prepareStatement(
+                    "SELECT eras_desbloqueadas, ultima_era FROM progressao WHERE uuid = ?")) {
+                statement.setString(1, id);
+                try (ResultSet resultado = statement.executeQuery()) {
+                    if (!resultado.next()) {
+                        return new PlayerProgression(playerId);
+                    }
+                    erasDesbloqueadas = resultado.getInt(1);
+                    ultimaEra = resultado.getInt(2);
+                }
+            }
+
+            try (PreparedStatement statement = conexao.prepareStatement(
+                    "SELECT era, ultima_visita FROM visitas WHERE uuid = ?")) {
+                statement.setString(1, id);
+                try (ResultSet resultado = statement.executeQuery()) {
+                    while (resultado.next()) {
+                        int era = resultado.getInt(1);
+                        if (era >= 1 && era < visitas.length) {
+                            visitas[era] = resultado.getLong(2);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException("Erro ao carregar progressão de " + id, e);
+        }
+
+        return new PlayerProgression(playerId, erasDesbloqueadas, ultimaEra, visitas);
+    }
+
+    @Override
+    public synchronized void salvar(Collection<PlayerProgression> perfis) throws IOException {
+        if (perfis.isEmpty()) {
+            return;
+        }
+
+        try {
+            conexao.setAutoCommit(false);
+
+            try (PreparedStatement progressao = conexao.prepareStatement(
+                    "INSERT OR REPLACE INTO progressao (uuid, eras_desbloqueadas, ultima_era) VALUES (?, ?, ?)");
+                 PreparedStatement visitas = conexao.prepareStatement(
+                    "INSERT OR REPLACE INTO visitas (uuid, era, ultima_visita) VALUES (?, ?, ?)")) {
+
+                for (PlayerProgression perfil : perfis) {
+                    String id = perfil.getPlayerId().toString();
+
+                    progressao.setString(1, id);
+                    progressao.setInt(2, perfil.getErasDesbloqueadas());
+                    progressao.setInt(3, perfil.getUltimaEra());
+                    progressao.addBatch();
+
+                    for (int era = 1; era <= EraAccessCache.MAX_ERAS; era++) {
+                        long momento = perfil.getUltimaVisita(era);
+                        if (momento == 0L) continue;
+
+                        visitas.setString(1, id);
+                        visitas.setInt(2, era);
+                        visitas.setLong(3, momento);
+                        visitas.addBatch();
+                    }
+                }
+
+                progressao.executeBatch();
+                visitas.executeBatch();
+            }
+
+            conexao.commit();
+        } catch (SQLException e) {
+            try {
+                conexao.rollback();
+            } catch (SQLException ignorado) {
+                // A transação já foi perdida; o erro original é o que importa
+            }
+            throw new IOException("Erro ao salvar " + perfis.size() + " progressões", e);
+        } finally {
+            try {
+                conexao.setAutoCommit(true);
+            } catch (SQLException ignorado) {
+                // Conexão inutilizável; o próximo acesso vai relatar o erro
+            }
+        }
+    }
+
+    @Override
+    public synchronized void fechar() {
+        if (conexao == null) {
+            return;
+        }
+
+        try {
+            conexao.close();
+        } catch (SQLException e) {
+            // Nada a fazer ao desligar
+        }
+        conexao = null;
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.artedaguerra.protecao;
+
+import br.com.artedaguerra.lobby.LobbyManager;
+import br.com.artedaguerra.metricas.MetricType;
+import br.com.artedaguerra.metricas.PerformanceMonitor;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.FoodLevelChangeEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Aplica as regras de proteção de cada mundo (lobby e eras)
+ * No lobby, as regiões do WorldGuard (se configuradas) limitam onde as regras valem
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class ProtectionListener implements Listener {
+
+    private final ProtectionManager protecao;
+    private final LobbyManager lobbyManager;
+    private final PerformanceMonitor metricas;
+
+    public ProtectionListener(ProtectionManager protecao, LobbyManager lobbyManager) {
+        this.protecao = protecao;
+        this.lobbyManager = lobbyManager;
+        this.metricas = lobbyManager.getPlugin().getPerformanceMonitor();
+    }
+
+    /**
+     * Resolve o mundo e o bypass antes dos demais listeners usarem o jogador
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        protecao.atualizar(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        protecao.atualizar(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        protecao.remover(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Protege contra quebra de blocos
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onBlockBreak(BlockBreakEvent event) {
+        long inicio = System.nanoTime();
+        try {
+            Player player = event.getPlayer();
+
+            if (protecao.isBloqueado(player, ProtectionRule.QUEBRAR) && lobbyManager.isProtegido(event.getBlock())) {
+                event.setCancelled(true);
+                player.sendMessage("§cVocê não pode quebrar blocos aqui!");
+            }
+        } finally {
+            metricas.registrar(MetricType.QUEBRA_BLOCO, inicio);
+        }
+    }
+
+    /**
+     * Protege contra colocação de blocos
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        long inicio = System.nanoTime();
+        try {
+            Player player = event.getPlayer();
+
+            if (protecao.isBloqueado(player, ProtectionRule.COLOCAR) && lobbyManager.isProtegido(event.getBlock())) {
+                event.setCancelled(true);
+                player.sendMessage("§cVocê não pode colocar blocos aqui!");
+            }
+        } finally {
+            metricas.registrar(MetricType.COLOCACAO_BLOCO, inicio);
+        }
+    }
+
+    /**
+     * Protege contra dano e, onde o PvP estiver desativado, contra ataques de outros jogadores
+     */
+    @EventHandler
+    public void onEntityDamage(EntityDamageEvent event) {
+        long inicio = System.nanoTime();
+        try {
+            if (!(event.getEntity() instanceof Player)) {
+                return;
+            }
+
+            Player player = (Player) event.getEntity();
+
+            if (protecao.isBloqueado(player, ProtectionRule.DANO)) {
+                if (lobbyManager.isProtegido(player)) {
+                    event.setCancelled(true);
+                }
+                return;
+            }
+
+            if (event instanceof EntityDamageByEntityEvent) {
+                Player atacante = getJogadorAtacante(((EntityDamageByEntityEvent) event).getDamager());
+                if (atacante != null && atacante != player
+                        && protecao.isBloqueado(player, ProtectionRule.PVP) && lobbyManager.isProtegido(player)) {
+                    event.setCancelled(true);
+                }
+            }
+        } finally {
+            metricas.registrar(MetricType.DANO, inicio);
+        }
+    }
+
+    /**
+     * Protege contra fome
+     */
+    @EventHandler
+    public void onFoodLevelChange(FoodLevelChangeEvent event) {
+        long inicio = System.nanoTime();
+        try {
+            if (event.getEntity() instanceof Player) {
+                Player player = (Player) event.getEntity();
+
+                if (protecao.isBloqueado(player, ProtectionRule.FOME) && lobbyManager.isProtegido(player)) {
+                    event.setCancelled(true);
+                    player.setFoodLevel(20);
+                }
+            }
+        } finally {
+            metricas.registrar(MetricType.FOME, inicio);
+        }
+    }
+
+    /**
+     * Protege contra drop de itens
+     */
+    @EventHandler
+    public void onPlayerDropItem(PlayerDropItemEvent event) {
+        long inicio = System.nanoTime();
+        try {
+            Player player = event.getPlayer();
+
+            if (protecao.isBloqueado(player, ProtectionRule.DROP) && lobbyManager.isProtegido(player)) {
+                event.setCancelled(true);
+            }
+        } finally {
+            metricas.registrar(MetricType.DROP_ITEM, inicio);
+        }
+    }
+
+    /**
+     * Jogador responsável pelo dano, direto ou por projétil (flecha, tridente...)
+     */
+    private static Player getJogadorAtacante(Entity causador) {
+        if (causador instanceof Player) {
+            return (Player) causador;
+        }
+        if (causador instanceof Projectile && ((Projectile) causador).getShooter() instanceof Player) {
+            return (Player) ((Projectile) causador).getShooter();
+        }
+        return null;
+    }
+}
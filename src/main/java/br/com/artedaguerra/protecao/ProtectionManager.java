@@ -0,0 +1,111 @@
+package br.com.artedaguerra.protecao;
+
+import br.com.artedaguerra.era.EraRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Aplica a política de proteção aos jogadores
+ * Guarda, para cada jogador, o índice do mundo em que ele está e se ele
+ * ignora as regras contornáveis (artedaguerra.admin). Os dois são atualizados
+ * na entrada, na troca de mundo e quando as permissões são recalculadas,
+ * então cada verificação de proteção é uma consulta ao jogador e dois acessos
+ * a arrays, sem hasPermission nem nomes de mundo
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class ProtectionManager {
+
+    public static final String PERMISSAO_BYPASS = "artedaguerra.admin";
+
+    private static final int CONTORNAVEIS = ProtectionRule.mascaraContornaveis();
+
+    private final Map<UUID, Estado> estados;
+    private volatile ProtectionPolicy politica = ProtectionPolicy.VAZIA;
+
+    public ProtectionManager() {
+        this.estados = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Compila e publica a política, recalculando o estado dos jogadores online
+     */
+    public void compilar(FileConfiguration config, Collection<String> mundosLobby, EraRegistry registry, Logger logger) {
+        politica = ProtectionPolicy.compilar(config, mundosLobby, registry, logger);
+        atualizarTodos();
+    }
+
+    /**
+     * Verifica se a regra impede a ação do jogador no mundo em que ele está
+     */
+    public boolean isBloqueado(Player player, ProtectionRule regra) {
+        Estado estado = estados.get(player.getUniqueId());
+        if (estado == null) {
+            estado = atualizar(player);
+        }
+
+        int regras = politica.getRegras(estado.mundo);
+        if (estado.bypass) {
+            regras &= ~CONTORNAVEIS;
+        }
+        return (regras & regra.getBit()) != 0;
+    }
+
+    /**
+     * Recalcula o mundo e o bypass do jogador
+     */
+    public Estado atualizar(Player player) {
+        Estado estado = new Estado(politica.getIndice(player.getWorld().getName()),
+            player.hasPermission(PERMISSAO_BYPASS));
+        estados.put(player.getUniqueId(), estado);
+        return estado;
+    }
+
+    public void atualizarTodos() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            atualizar(player);
+        }
+    }
+
+    public void remover(UUID playerId) {
+        estados.remove(playerId);
+    }
+
+    public void limpar() {
+        estados.clear();
+    }
+
+    public ProtectionPolicy getPolitica() {
+        return politica;
+    }
+
+    /**
+     * Estado de proteção de um jogador (imutável; trocado por inteiro a cada atualização)
+     */
+    public static final class Estado {
+
+        private final int mundo;
+        private final boolean bypass;
+
+        Estado(int mundo, boolean bypass) {
+            this.mundo = mundo;
+            this.bypass = bypass;
+        }
+
+        public int getMundo() {
+            return mundo;
+        }
+
+        public boolean isBypass() {
+            return bypass;
+        }
+    }
+}
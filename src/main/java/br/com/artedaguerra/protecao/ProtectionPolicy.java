@@ -0,0 +1,121 @@
+package br.com.artedaguerra.protecao;
+
+import br.com.artedaguerra.era.EraDefinition;
+import br.com.artedaguerra.era.EraRegistry;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Política de proteção imutável, compilada a partir do config.yml
+ * Cada mundo com regras recebe um índice e a máscara das suas regras fica
+ * em um array; o índice 0 é o de qualquer mundo sem regras. O índice do
+ * mundo é resolvido só quando o jogador entra ou troca de mundo, então
+ * os eventos de proteção não consultam nomes de mundo nem configuração
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public final class ProtectionPolicy {
+
+    public static final ProtectionPolicy VAZIA = new ProtectionPolicy(new HashMap<>(), new int[1]);
+
+    private final Map<String, Integer> indices;
+    private final int[] regras; // índice 0 = mundo sem regras
+
+    private ProtectionPolicy(Map<String, Integer> indices, int[] regras) {
+        this.indices = indices;
+        this.regras = regras;
+    }
+
+    /**
+     * Compila a política: protecao.lobby para os mundos de lobby (se lobby.protecao_ativada),
+     * eras.era_N.protecao para o mundo de cada era e protecao.mundos para outros mundos
+     */
+    public static ProtectionPolicy compilar(FileConfiguration config, Collection<String> mundosLobby,
+                                            EraRegistry registry, Logger logger) {
+        Map<String, Integer> mascaras = new HashMap<>();
+
+        if (config.getBoolean("lobby.protecao_ativada", true)) {
+            int lobby = config.contains("protecao.lobby")
+                ? lerRegras(config.getStringList("protecao.lobby"), "protecao.lobby", logger)
+                : ProtectionRule.TODAS;
+            for (String mundo : mundosLobby) {
+                mascaras.merge(mundo, lobby, (a, b) -> a | b);
+            }
+        }
+
+        for (int numero = 1; numero <= registry.getQuantidade(); numero++) {
+            EraDefinition era = registry.getEra(numero);
+            String caminho = "eras.era_" + numero + ".protecao";
+            if (era.getMundoNome() != null && config.contains(caminho)) {
+                mascaras.merge(era.getMundoNome(), lerRegras(config.getStringList(caminho), caminho, logger), (a, b) -> a | b);
+            }
+        }
+
+        ConfigurationSection mundos = config.getConfigurationSection("protecao.mundos");
+        if (mundos != null) {
+            for (String mundo : mundos.getKeys(false)) {
+                String caminho = "protecao.mundos." + mundo;
+                mascaras.merge(mundo, lerRegras(config.getStringList(caminho), caminho, logger), (a, b) -> a | b);
+            }
+        }
+
+        Map<String, Integer> indices = new HashMap<>();
+        List<Integer> regras = new ArrayList<>();
+        regras.add(0);
+
+        for (Map.Entry<String, Integer> entrada : mascaras.entrySet()) {
+            if (entrada.getValue() == 0) continue;
+            indices.put(entrada.getKey(), regras.size());
+            regras.add(entrada.getValue());
+        }
+
+        int[] array = new int[regras.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = regras.get(i);
+        }
+        return new ProtectionPolicy(indices, array);
+    }
+
+    /**
+     * Índice do mundo na política (0 se o mundo não tiver regras)
+     */
+    public int getIndice(String mundo) {
+        Integer indice = indices.get(mundo);
+        return indice != null ? indice : 0;
+    }
+
+    /**
+     * Máscara das regras do mundo com o índice informado
+     */
+    public int getRegras(int indice) {
+        return indice >= 0 && indice < regras.length ? regras[indice] : 0;
+    }
+
+    /**
+     * Quantidade de mundos com alguma regra
+     */
+    public int getQuantidadeMundos() {
+        return regras.length - 1;
+    }
+
+    private static int lerRegras(List<String> nomes, String caminho, Logger logger) {
+        int mascara = 0;
+        for (String nome : nomes) {
+            ProtectionRule regra = ProtectionRule.porChave(nome);
+            if (regra == null) {
+                logger.warning("Regra de proteção inválida em " + caminho + ": " + nome);
+                continue;
+            }
+            mascara |= regra.getBit();
+        }
+        return mascara;
+    }
+}
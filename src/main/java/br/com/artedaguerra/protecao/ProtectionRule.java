@@ -0,0 +1,90 @@
+package br.com.artedaguerra.protecao;
+
+import java.util.Locale;
+
+/**
+ * Regras de proteção que podem ser ativadas em cada mundo
+ * Cada regra ocupa um bit da máscara compilada da política
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public enum ProtectionRule {
+
+    /** Impede quebrar blocos */
+    QUEBRAR("quebrar", true),
+
+    /** Impede colocar blocos */
+    COLOCAR("colocar", true),
+
+    /** Impede que jogadores levem dano */
+    DANO("dano", false),
+
+    /** Impede que a fome dos jogadores diminua */
+    FOME("fome", false),
+
+    /** Impede jogar itens no chão */
+    DROP("drop", true),
+
+    /** Impede que jogadores ataquem outros jogadores */
+    PVP("pvp", false);
+
+    /** Máscara com todas as regras */
+    public static final int TODAS = (1 << values().length) - 1;
+
+    private final String chave;
+    private final boolean contornavel;
+    private final int bit;
+
+    ProtectionRule(String chave, boolean contornavel) {
+        this.chave = chave;
+        this.contornavel = contornavel;
+        this.bit = 1 << ordinal();
+    }
+
+    /**
+     * Nome usado no config.yml
+     */
+    public String getChave() {
+        return chave;
+    }
+
+    /**
+     * Indica se administradores (artedaguerra.admin) ignoram a regra
+     */
+    public boolean isContornavel() {
+        return contornavel;
+    }
+
+    public int getBit() {
+        return bit;
+    }
+
+    /**
+     * Busca a regra pelo nome usado no config.yml
+     *
+     * @return a regra, ou null se o nome não for reconhecido
+     */
+    public static ProtectionRule porChave(String chave) {
+        String normalizada = chave.trim().toLowerCase(Locale.ROOT);
+        for (ProtectionRule regra : values()) {
+            if (regra.chave.equals(normalizada)) {
+                return regra;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Máscara das regras que administradores ignoram
+     */
+    static int mascaraContornaveis() {
+        int mascara = 0;
+        for (ProtectionRule regra : values()) {
+            if (regra.contornavel) {
+                mascara |= regra.bit;
+            }
+        }
+        return mascara;
+    }
+}
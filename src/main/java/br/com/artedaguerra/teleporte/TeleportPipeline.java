@@ -0,0 +1,279 @@
+package br.com.artedaguerra.teleporte;
+
+import br.com.artedaguerra.metricas.MetricType;
+import br.com.artedaguerra.metricas.PerformanceMonitor;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Fila de teletransportes com pré-carregamento dos chunks de destino
+ * Os pedidos entram numa fila e no máximo 'admissoesPorTick' são iniciados
+ * por tick, suavizando rajadas (ex.: todo o evento clicando na mesma era).
+ * No Paper os chunks são carregados de forma assíncrona (getChunkAtAsync) e o
+ * jogador é movido com teleportAsync; no Spigot os chunks são carregados no
+ * tick de admissão, limitados pela mesma cota, antes do teleport
+ *
+ * @author Arte da Guerra Team
+ * @version 1.0.0-SNAPSHOT
+ */
+public class TeleportPipeline extends BukkitRunnable {
+
+    private static final Method CHUNK_ASYNC = buscarMetodo(World.class, "getChunkAtAsync", int.class, int.class);
+    private static final Method TELEPORT_ASYNC = buscarMetodo(Entity.class, "teleportAsync", Location.class);
+
+    private final Plugin plugin;
+    private final PerformanceMonitor metricas;
+    private final int admissoesPorTick;
+    private final int raioChunks;
+    private final Deque<Pedido> fila;
+    private final Set<UUID> pendentes;
+
+    /**
+     * @param admissoesPorTick quantos teletransportes podem começar por tick
+     * @param raioChunks raio de chunks pré-carregados ao redor do destino (0 = só o chunk do destino)
+     */
+    public TeleportPipeline(Plugin plugin, PerformanceMonitor metricas, int admissoesPorTick, int raioChunks) {
+        this.plugin = plugin;
+        this.metricas = metricas;
+        this.admissoesPorTick = Math.max(1, admissoesPorTick);
+        this.raioChunks = Math.max(0, raioChunks);
+        this.fila = new ArrayDeque<>();
+        this.pendentes = new HashSet<>();
+    }
+
+    /**
+     * Inicia o processamento da fila
+     */
+    public void iniciar() {
+        runTaskTimer(plugin, 1L, 1L);
+
+        if (isPaper()) {
+            plugin.getLogger().info("Teletransporte assíncrono (Paper) disponível.");
+        } else {
+            plugin.getLogger().info("Teletransporte assíncrono indisponível; usando carregamento limitado por tick.");
+        }
+    }
+
+    /**
+     * Solicita o teletransporte de um jogador
+     *
+     * @param aoConcluir chamado na thread principal com o resultado do teleport
+     * @return falso se o jogador já tinha um teletransporte em andamento
+     */
+    public boolean solicitar(Player player, Location destino, Consumer<Boolean> aoConcluir) {
+        if (!pendentes.add(player.getUniqueId())) {
+            player.sendMessage("§cVocê já tem um teletransporte em andamento!");
+            return false;
+        }
+
+        fila.addLast(new Pedido(player.getUniqueId(), destino, aoConcluir));
+
+        if (fila.size() > admissoesPorTick) {
+            player.sendMessage("§7Preparando teletransporte... §e(posição " + fila.size() + " na fila)");
+        } else {
+            player.sendMessage("§7Preparando teletransporte...");
+        }
+        return true;
+    }
+
+    @Override
+    public void run() {
+        if (fila.isEmpty()) return;
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < admissoesPorTick && !fila.isEmpty(); i++) {
+            admitir(fila.pollFirst());
+        }
+        metricas.registrar(MetricType.TELEPORTE_TICK, inicio);
+    }
+
+    /**
+     * Inicia o carregamento do destino de um pedido
+     */
+    private void admitir(Pedido pedido) {
+        Player player = Bukkit.getPlayer(pedido.playerId);
+        if (player == null) {
+            pendentes.remove(pedido.playerId);
+            return;
+        }
+
+        World world = pedido.destino.getWorld();
+        if (world == null) {
+            finalizar(pedido, player, false);
+            return;
+        }
+
+        player.sendActionBar("§eCarregando destino...");
+
+        int centroX = pedido.destino.getBlockX() >> 4;
+        int centroZ = pedido.destino.getBlockZ() >> 4;
+
+        if (CHUNK_ASYNC != null) {
+            carregarAssincrono(pedido, world, centroX, centroZ);
+        } else {
+            carregarSincrono(world, centroX, centroZ);
+            teletransportar(pedido);
+        }
+    }
+
+    /**
+     * Paper: carrega os chunks fora da thread principal e só então move o jogador
+     */
+    private void carregarAssincrono(Pedido pedido, World world, int centroX, int centroZ) {
+        int lado = raioChunks * 2 + 1;
+        CompletableFuture<?>[] futuros = new CompletableFuture<?>[lado * lado];
+        int indice = 0;
+
+        try {
+            for (int dx = -raioChunks; dx <= raioChunks; dx++) {
+                for (int dz = -raioChunks; dz <= raioChunks; dz++) {
+                    futuros[indice++] = (CompletableFuture<?>) CHUNK_ASYNC.invoke(world, centroX + dx, centroZ + dz);
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            plugin.getLogger().warning("Falha ao carregar chunks de forma assíncrona: " + e.getMessage());
+            carregarSincrono(world, centroX, centroZ);
+            teletransportar(pedido);
+            return;
+        }
+
+        CompletableFuture.allOf(futuros).whenComplete((ignorado, erro) -> naThreadPrincipal(() -> {
+            if (erro != null) {
+                plugin.getLogger().warning("Erro ao carregar destino do teletransporte: " + erro.getMessage());
+                Player player = Bukkit.getPlayer(pedido.playerId);
+                if (player != null) {
+                    finalizar(pedido, player, false);
+                } else {
+                    pendentes.remove(pedido.playerId);
+                }
+                return;
+            }
+            teletransportar(pedido);
+        }));
+    }
+
+    /**
+     * Spigot: carrega os chunks ainda não carregados na thread principal
+     */
+    private void carregarSincrono(World world, int centroX, int centroZ) {
+        for (int dx = -raioChunks; dx <= raioChunks; dx++) {
+            for (int dz = -raioChunks; dz <= raioChunks; dz++) {
+                if (!world.isChunkLoaded(centroX + dx, centroZ + dz)) {
+                    world.loadChunk(centroX + dx, centroZ + dz);
+                }
+            }
+        }
+    }
+
+    /**
+     * Move o jogador para o destino já carregado
+     */
+    private void teletransportar(Pedido pedido) {
+        Player player = Bukkit.getPlayer(pedido.playerId);
+        if (player == null) {
+            pendentes.remove(pedido.playerId);
+            return;
+        }
+
+        if (TELEPORT_ASYNC != null) {
+            try {
+                CompletableFuture<?> futuro = (CompletableFuture<?>) TELEPORT_ASYNC.invoke(player, pedido.destino);
+                futuro.whenComplete((resultado, erro) -> naThreadPrincipal(() ->
+                    finalizar(pedido, player, erro == null && Boolean.TRUE.equals(resultado))));
+                return;
+            } catch (ReflectiveOperationException e) {
+                plugin.getLogger().warning("Falha no teleportAsync, usando teleport: " + e.getMessage());
+            }
+        }
+
+        finalizar(pedido, player, player.teleport(pedido.destino));
+    }
+
+    private void finalizar(Pedido pedido, Player player, boolean sucesso) {
+        pendentes.remove(pedido.playerId);
+        metricas.registrar(MetricType.TELEPORTE_TOTAL, pedido.solicitadoEm);
+
+        if (!sucesso && player.isOnline()) {
+            player.sendMessage("§cNão foi possível completar o teletransporte. Tente novamente.");
+        }
+
+        if (pedido.aoConcluir != null && player.isOnline()) {
+            pedido.aoConcluir.accept(sucesso);
+        }
+    }
+
+    private void naThreadPrincipal(Runnable acao) {
+        if (Bukkit.isPrimaryThread()) {
+            acao.run();
+        } else if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, acao);
+        }
+    }
+
+    /**
+     * Descarta os pedidos de um jogador que saiu do servidor
+     */
+    public void remover(UUID playerId) {
+        if (pendentes.remove(playerId)) {
+            fila.removeIf(pedido -> pedido.playerId.equals(playerId));
+        }
+    }
+
+    /**
+     * Descarta todos os pedidos pendentes
+     */
+    public void limpar() {
+        fila.clear();
+        pendentes.clear();
+    }
+
+    /**
+     * Quantidade de pedidos aguardando admissão
+     */
+    public int getTamanhoFila() {
+        return fila.size();
+    }
+
+    public static boolean isPaper() {
+        return CHUNK_ASYNC != null && TELEPORT_ASYNC != null;
+    }
+
+    private static Method buscarMetodo(Class<?> classe, String nome, Class<?>... parametros) {
+        try {
+            return classe.getMethod(nome, parametros);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Pedido de teletransporte na fila
+     */
+    private static final class Pedido {
+        private final UUID playerId;
+        private final Location destino;
+        private final Consumer<Boolean> aoConcluir;
+        private final long solicitadoEm;
+
+        private Pedido(UUID playerId, Location destino, Consumer<Boolean> aoConcluir) {
+            this.playerId = playerId;
+            this.destino = destino;
+            this.aoConcluir = aoConcluir;
+            this.solicitadoEm = System.nanoTime();
+        }
+    }
+}